@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 처리량/p99 지연 비교
+#
+# 사전 조건
+# - JDK 21, k6, jq 설치
+# - 부하 테스트용 MySQL (SPRING_DATASOURCE_URL/USERNAME/PASSWORD 환경 변수로 지정)
+#
+# 사용법: loadtest/compare-thread-modes.sh [VUS] [DURATION]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+VUS="${1:-200}"
+DURATION="${2:-60s}"
+PORT="${PORT:-8092}"
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="build/loadtest"
+mkdir -p "${OUT_DIR}"
+
+./gradlew -q clean bootJar -x test -PjavaVersion=21
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local mode="$1"
+    local profiles="$2"
+
+    echo "▶ ${mode} 모드 기동 (profiles=${profiles:-default})"
+    SPRING_PROFILES_ACTIVE="${profiles}" java -jar "${JAR}" --server.port="${PORT}" \
+        > "${OUT_DIR}/${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+
+    until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="${BASE_URL}" -e VUS="${VUS}" -e DURATION="${DURATION}" \
+        --summary-export "${OUT_DIR}/${mode}-summary.json" loadtest/gri-endpoints.js
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform ""
+run_mode virtual virtual
+
+printf '\n%-10s %12s %12s %12s\n' "mode" "req/s" "p95(ms)" "p99(ms)"
+for mode in platform virtual; do
+    summary="${OUT_DIR}/${mode}-summary.json"
+    printf '%-10s %12.1f %12.1f %12.1f\n' "${mode}" \
+        "$(jq '.metrics.http_reqs.rate' "${summary}")" \
+        "$(jq '.metrics.http_req_duration["p(95)"]' "${summary}")" \
+        "$(jq '.metrics.http_req_duration["p(99)"]' "${summary}")"
+done
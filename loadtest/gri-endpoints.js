@@ -0,0 +1,48 @@
+// GRI 조회 API 부하 테스트 (k6)
+// - 여러 사용자(X-MEMBER-ID)가 목록/단건/진행률 API를 동시에 호출
+// - 실행: k6 run -e BASE_URL=http://localhost:8092 -e VUS=200 -e DURATION=60s loadtest/gri-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8092';
+const MEMBERS = parseInt(__ENV.MEMBERS || '1000', 10);
+const GRI_CODES = ['2-1', '2-7', '201-1', '302-1', '305-1', '401-1', '403-9', '405-1'];
+
+export const options = {
+    scenarios: {
+        read_mix: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200', 10),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    // 사용자별 기본 데이터 적재 (일괄 등록 API, 이미 있으면 수정)
+    for (let memberId = 1; memberId <= MEMBERS; memberId++) {
+        const body = GRI_CODES.map((griCode) => ({
+            griCode,
+            indicator: `지표 ${griCode}`,
+            category: '부하테스트',
+            content: `member ${memberId} / ${griCode} 공시 내용`,
+        }));
+        http.post(`${BASE_URL}/api/v1/gri/bulk`, JSON.stringify(body), {
+            headers: { 'Content-Type': 'application/json', 'X-MEMBER-ID': `${memberId}` },
+        });
+    }
+}
+
+export default function () {
+    const memberId = 1 + Math.floor(Math.random() * MEMBERS);
+    const headers = { headers: { 'X-MEMBER-ID': `${memberId}` } };
+    const griCode = GRI_CODES[Math.floor(Math.random() * GRI_CODES.length)];
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/gri`, null, { ...headers, tags: { endpoint: 'list' } }],
+        ['GET', `${BASE_URL}/api/v1/gri/${griCode}`, null, { ...headers, tags: { endpoint: 'single' } }],
+        ['GET', `${BASE_URL}/api/v1/internal/gri/progress`, null, { ...headers, tags: { endpoint: 'progress' } }],
+    ]);
+    responses.forEach((res) => check(res, { 'status is 200': (r) => r.status === 200 }));
+}
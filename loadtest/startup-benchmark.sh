@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+# 실행 방식별 기동 시간(첫 요청 응답까지)과 메모리(RSS) 비교
+# - jar      : 기본 bootJar
+# - lazy     : 지연 초기화 (lazy 프로파일)
+# - aot      : Spring AOT 처리 결과 사용 (-Dspring.aot.enabled=true)
+# - aot-cds  : AOT + CDS 아카이브 (압축 해제된 클래스패스)
+# - native   : GraalVM 네이티브 이미지 (NATIVE=1 이고 GraalVM JDK 일 때만)
+#
+# 사전 조건
+# - JDK 17 이상, curl
+# - MySQL (SPRING_DATASOURCE_URL/USERNAME/PASSWORD 환경 변수로 지정)
+#
+# 사용법: loadtest/startup-benchmark.sh [RUNS]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-3}"
+PORT="${PORT:-8092}"
+FIRST_REQUEST_URL="http://localhost:${PORT}/api/v1/gri"
+OUT_DIR="build/startup"
+MAIN_CLASS="com.nsmm.esg.griservice.GriServiceApplication"
+rm -rf "${OUT_DIR}"
+mkdir -p "${OUT_DIR}"
+
+# AOT 처리된 jar 는 spring.aot.enabled 없이 실행하면 일반 jar 와 동일하게 동작하므로 하나만 빌드
+./gradlew -q clean bootJar -x test -Paot
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+
+# CDS 용 압축 해제 및 학습 실행 (컨텍스트 초기화 직후 종료)
+EXTRACTED="${OUT_DIR}/extracted"
+mkdir -p "${EXTRACTED}"
+(cd "${EXTRACTED}" && jar -xf "../../../${JAR}")
+CLASSPATH_CDS="$( (echo "${EXTRACTED}/BOOT-INF/classes"; \
+    sed -n "s#^- \"\(BOOT-INF/lib/.*\)\"\$#${EXTRACTED}/\1#p" "${EXTRACTED}/BOOT-INF/classpath.idx") | paste -s -d : -)"
+java -XX:ArchiveClassesAtExit="${OUT_DIR}/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -cp "${CLASSPATH_CDS}" "${MAIN_CLASS}" --server.port="${PORT}" > "${OUT_DIR}/cds-training.log" 2>&1
+
+VARIANTS=(jar lazy aot aot-cds)
+if [[ "${NATIVE:-0}" == "1" ]]; then
+    ./gradlew -q nativeCompile -Paot
+    VARIANTS+=(native)
+fi
+
+start_variant() {
+    local variant="$1"
+    case "${variant}" in
+        jar)     java -jar "${JAR}" --server.port="${PORT}" ;;
+        lazy)    SPRING_PROFILES_ACTIVE=lazy java -jar "${JAR}" --server.port="${PORT}" ;;
+        aot)     java -Dspring.aot.enabled=true -jar "${JAR}" --server.port="${PORT}" ;;
+        aot-cds) java -XX:SharedArchiveFile="${OUT_DIR}/app.jsa" -Dspring.aot.enabled=true \
+                     -cp "${CLASSPATH_CDS}" "${MAIN_CLASS}" --server.port="${PORT}" ;;
+        native)  build/native/nativeCompile/gri-service --server.port="${PORT}" ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 결과: variant run 첫요청(ms) Started(s) RSS(MB)
+RESULTS="${OUT_DIR}/results.tsv"
+for variant in "${VARIANTS[@]}"; do
+    for run in $(seq 1 "${RUNS}"); do
+        log="${OUT_DIR}/${variant}-${run}.log"
+        started_at="$(now_ms)"
+        start_variant "${variant}" > "${log}" 2>&1 &
+        pid=$!
+        trap "kill ${pid} 2>/dev/null || true" EXIT
+
+        # 첫 요청이 성공할 때까지 대기 (지연 초기화 빈 생성, 첫 쿼리 포함)
+        until curl -sf -H "X-MEMBER-ID: 1" "${FIRST_REQUEST_URL}" > /dev/null; do
+            if ! kill -0 "${pid}" 2>/dev/null; then
+                echo "✖ ${variant} 기동 실패 (${log})" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        first_request_ms=$(( $(now_ms) - started_at ))
+        rss_mb=$(( $(ps -o rss= -p "${pid}") / 1024 ))
+        spring_started="$(sed -n 's/.*Started GriServiceApplication in \([0-9.]*\) seconds.*/\1/p' "${log}" | head -n 1)"
+
+        printf '%s\t%s\t%s\t%s\t%s\n' "${variant}" "${run}" "${first_request_ms}" "${spring_started:--}" "${rss_mb}" >> "${RESULTS}"
+
+        kill "${pid}"
+        wait "${pid}" 2>/dev/null || true
+        trap - EXIT
+    done
+done
+
+printf '\n%-10s %18s %14s %10s\n' "variant" "first-request(ms)" "started(s)" "RSS(MB)"
+for variant in "${VARIANTS[@]}"; do
+    awk -F '\t' -v v="${variant}" '
+        $1 == v { n++; first += $3; rss += $5; if ($4 != "-") { started += $4; sn++ } }
+        END {
+            printf "%-10s %18.0f %14s %10.0f\n", v, first / n,
+                (sn > 0 ? sprintf("%.2f", started / sn) : "-"), rss / n
+        }' "${RESULTS}"
+done
+echo "(${RUNS}회 평균, 회차별 결과: ${RESULTS})"
@@ -0,0 +1,82 @@
+package com.nsmm.esg.griservice.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.util.Duration;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드 로그 기록 지연 벤치마크 (8개 스레드 동시 기록, JSON 파일 출력)
+ * - sync: FileAppender 직접 기록 (이벤트마다 인코딩 + 잠금 + flush)
+ * - async: 링 버퍼 비동기 appender 경유 (요청 스레드는 링 버퍼에 넣고 반환, 배치 끝에 flush)
+ * - 결과의 p0.99 / p0.999 (SampleTime) 로 부하 중 꼬리 지연 비교, 비동기 모드의 유실 수는 TearDown 에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class AsyncLoggingBenchmark {
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("gri-logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setName("FILE");
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.setImmediateFlush("sync".equals(mode));
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if ("async".equals(mode)) {
+            LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+            async.setName("ASYNC_FILE");
+            async.setContext(context);
+            async.setRingBufferSize(8192);
+            async.setAppendTimeout(Duration.buildByMilliseconds(0));
+            async.addListener(new DroppedLogEventListener());
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        logger = context.getLogger("com.nsmm.esg.griservice.benchmark");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        System.out.printf("%n[%s] 유실 이벤트 수=%s%n", mode, DroppedLogEventListener.droppedCounts());
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void progressLog() {
+        logger.info("[GRI 진행 현황] memberId={} 총합={}, 완료={}, 미완료={}, 완료율={}%", 1024L, 119, 87, 32, 73.1);
+    }
+}
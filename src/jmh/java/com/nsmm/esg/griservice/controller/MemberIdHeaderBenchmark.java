@@ -0,0 +1,28 @@
+package com.nsmm.esg.griservice.controller;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * X-MEMBER-ID 헤더 파싱 벤치마크
+ * - present: 정상 헤더
+ * - missing: 헤더 누락 (기본값 처리 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberIdHeaderBenchmark {
+
+    private String header = "1024";
+
+    @Benchmark
+    public Long present() {
+        return MemberIdHeader.parse(header);
+    }
+
+    @Benchmark
+    public Long missing() {
+        return MemberIdHeader.parse(null);
+    }
+}
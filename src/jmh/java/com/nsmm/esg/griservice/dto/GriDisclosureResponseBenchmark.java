@@ -0,0 +1,69 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GriDisclosureResponse 변환 및 목록 응답 JSON 직렬화 벤치마크
+ * - items: 사용자 한 명의 항목 수 (GRI 전체 119건 ~ 대량)
+ * - contentLength: 항목별 content 길이
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GriDisclosureResponseBenchmark {
+
+    @Param({"119", "1000"})
+    int items;
+
+    @Param({"200", "4000"})
+    int contentLength;
+
+    private List<GriDisclosure> entities;
+    private List<GriDisclosureResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        String content = "가".repeat(contentLength);
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            entities.add(GriDisclosure.builder()
+                    .id((long) i)
+                    .memberId(1L)
+                    .griCode((400 + i % 18) + "-" + (i % 10 + 1))
+                    .indicator("신규채용자 수 및 이직자 현황")
+                    .category("고용")
+                    .content(content)
+                    .completed(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build());
+        }
+        responses = entities.stream().map(GriDisclosureResponse::fromEntity).toList();
+        // Spring Boot 기본 설정과 동일하게 날짜를 ISO 문자열로 직렬화
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public List<GriDisclosureResponse> fromEntity() {
+        return entities.stream().map(GriDisclosureResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nsmm.esg.griservice.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.nsmm.esg.griservice.dto.ErrorResponse;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 없는 항목 조회(404) 오류 응답 경로 벤치마크 (DB 조회 제외, 예외 발생 ~ ErrorResponse 생성까지)
+ * - stackTrace: 기존 방식 (요청마다 스택 트레이스를 수집하는 예외 생성 + 경고 로그 이벤트)
+ * - preallocated: 미리 생성된 스택 트레이스 없는 예외 (GriNotFoundException.DISCLOSURE)
+ * - success: 비교 기준이 되는 정상 조회 응답 생성 (ResponseEntity.ok)
+ * - 로그는 appender 를 제거한 INFO 레벨 컨텍스트에서 이벤트 생성 비용만 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GriErrorPathBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private HttpServletRequest request;
+    private GriDisclosureResponse found;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        String uri = "/api/v1/gri/code/305-1";
+        request = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> "getRequestURI".equals(method.getName()) ? uri : null);
+        found = GriDisclosureResponse.builder()
+                .id(1L)
+                .griCode("305-1")
+                .indicator("직접 온실가스 배출량 (Scope 1)")
+                .content("2024년 Scope 1 배출량은 12,345 tCO2eq 입니다.")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> stackTrace() {
+        try {
+            return ResponseEntity.ok(lookup(false));
+        } catch (GriException e) {
+            return handler.handleGriException(e, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> preallocated() {
+        try {
+            return ResponseEntity.ok(lookup(true));
+        } catch (GriException e) {
+            return handler.handleGriException(e, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<GriDisclosureResponse> success() {
+        return ResponseEntity.ok(found);
+    }
+
+    // 서비스 호출 경계처럼 인라인되지 않도록 하여 throw/catch 가 같은 메서드로 합쳐지지 않게 함
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static ErrorResponse lookup(boolean preallocated) {
+        if (preallocated) {
+            throw GriNotFoundException.DISCLOSURE;
+        }
+        throw new GriNotFoundException("해당 코드의 GRI 항목이 없습니다.");
+    }
+}
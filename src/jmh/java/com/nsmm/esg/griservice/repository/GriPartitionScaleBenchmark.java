@@ -0,0 +1,153 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.catalog.GriStandard;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 데이터량 증가에 따른 사용자별 조회 지연 벤치마크 (MySQL 필요)
+ * - layout: single(파티셔닝 없음) / partitioned(member_id 해시 16개 파티션, db/gri-disclosure-partitioning.sql 과 같은 구성)
+ * - totalRows: 전체 행 수, 사용자당 ROWS_PER_MEMBER 건씩 부족한 만큼만 생성하므로 오름차순으로 실행하면 데이터가 누적됨
+ * - 임의 사용자의 전체 목록/단건 조회 p50/p99 (SampleTime) 가 totalRows 와 무관하게 유지되는지 확인
+ * - 접속 정보: GRI_BENCH_JDBC_URL(예: jdbc:mysql://localhost:3306, DB 이름 제외), GRI_BENCH_USERNAME, GRI_BENCH_PASSWORD
+ *   (layout 별로 gri_bench_single / gri_bench_partitioned DB 를 만들어 사용)
+ * - 실행: ./gradlew jmh -PjmhIncludes=GriPartitionScaleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GriPartitionScaleBenchmark {
+
+    private static final int ROWS_PER_MEMBER = 60;
+    private static final int INSERT_BATCH_SIZE = 6000;
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS gri_disclosure (
+                id           BIGINT       NOT NULL AUTO_INCREMENT,
+                member_id    BIGINT       NOT NULL,
+                gri_code     VARCHAR(10)  NOT NULL,
+                indicator    VARCHAR(255) NULL,
+                category     VARCHAR(255) NULL,
+                content_blob LONGBLOB     NULL,
+                content      TEXT         NULL,
+                content_size INT          NULL,
+                content_hash VARCHAR(64)  NULL,
+                completed    BIT(1)       NOT NULL,
+                created_at   DATETIME(6)  NULL,
+                updated_at   DATETIME(6)  NULL,
+                version      BIGINT       NOT NULL DEFAULT 0,
+                PRIMARY KEY (%s),
+                UNIQUE KEY uk_gri_disclosure_member_gri_code (member_id, gri_code),
+                KEY idx_gri_disclosure_member_completed (member_id, completed, gri_code)
+            )%s
+            """;
+
+    @Param({"single", "partitioned"})
+    private String layout;
+
+    @Param({"1000000", "2000000", "4000000", "8000000"})
+    private long totalRows;
+
+    private GriDisclosureJdbcRepository repository;
+    private List<String> griCodes;
+    private long memberCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String baseUrl = requiredEnv("GRI_BENCH_JDBC_URL");
+        String username = requiredEnv("GRI_BENCH_USERNAME");
+        String password = System.getenv().getOrDefault("GRI_BENCH_PASSWORD", "");
+        String database = "gri_bench_" + layout;
+
+        new JdbcTemplate(new DriverManagerDataSource(baseUrl, username, password))
+                .execute("CREATE DATABASE IF NOT EXISTS " + database);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                baseUrl + "/" + database + "?rewriteBatchedStatements=true", username, password);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        boolean partitioned = "partitioned".equals(layout);
+        jdbc.execute(CREATE_TABLE.formatted(
+                partitioned ? "id, member_id" : "id",
+                partitioned ? " PARTITION BY HASH (member_id) PARTITIONS 16" : ""));
+
+        griCodes = GriCatalog.getInstance().standards().stream()
+                .map(GriStandard::getCode)
+                .limit(ROWS_PER_MEMBER)
+                .toList();
+        memberCount = totalRows / ROWS_PER_MEMBER;
+        Long existing = jdbc.queryForObject("SELECT COALESCE(MAX(member_id), 0) FROM gri_disclosure", Long.class);
+        generate(jdbc, existing == null ? 1 : existing + 1, memberCount);
+        jdbc.execute("ANALYZE TABLE gri_disclosure");
+
+        repository = new GriDisclosureJdbcRepository(new NamedParameterJdbcTemplate(dataSource));
+        String plan = jdbc.queryForList("EXPLAIN SELECT id FROM gri_disclosure WHERE member_id = 1").toString();
+        System.out.printf("%n[%s] 사용자=%d, 조회 계획=%s%n", layout, memberCount, plan);
+    }
+
+    /**
+     * fromMember ~ toMember 사용자의 항목을 사용자당 ROWS_PER_MEMBER 건씩 배치 INSERT
+     */
+    private void generate(JdbcTemplate jdbc, long fromMember, long toMember) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long memberId = fromMember; memberId <= toMember; memberId++) {
+            for (int i = 0; i < griCodes.size(); i++) {
+                String content = i % 3 == 0 ? null : "사용자 " + memberId + " 의 " + griCodes.get(i) + " 공시 내용";
+                batch.add(new Object[]{
+                        memberId, griCodes.get(i),
+                        content == null ? null : GriContentCodec.encode(content),
+                        content == null ? null : GriContentCodec.sizeOf(content),
+                        content == null ? null : GriContentCodec.hashOf(content),
+                        content != null, now, now});
+                if (batch.size() == INSERT_BATCH_SIZE) {
+                    insert(jdbc, batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(jdbc, batch);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> batch) {
+        jdbc.batchUpdate("""
+                INSERT INTO gri_disclosure
+                    (member_id, gri_code, content_blob, content_size, content_hash, completed, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, batch);
+        batch.clear();
+    }
+
+    private static String requiredEnv(String name) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(name + " 환경 변수가 필요합니다.");
+        }
+        return value;
+    }
+
+    private long randomMember() {
+        return ThreadLocalRandom.current().nextLong(1, memberCount + 1);
+    }
+
+    @Benchmark
+    public Object findAllByMemberId() {
+        return repository.findAllByMemberId(randomMember());
+    }
+
+    @Benchmark
+    public Object findByMemberIdAndGriCode() {
+        return repository.findByMemberIdAndGriCode(randomMember(),
+                griCodes.get(ThreadLocalRandom.current().nextInt(griCodes.size())));
+    }
+}
@@ -0,0 +1,69 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.catalog.GriStandard;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GRI 진행률 완료 항목 계산 벤치마크
+ * - entityScan: 엔티티 목록을 순회하며 content 공백 여부로 계산 (기존 방식)
+ * - catalogTally: 완료 코드 목록을 카탈로그 인덱스로 시리즈/카테고리별 집계 (현재 방식)
+ * - incrementalApply: 캐시된 집계에 변경 한 건 반영
+ * - catalogLookup: 카탈로그 코드 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GriProgressTallyBenchmark {
+
+    private final GriCatalog catalog = GriCatalog.getInstance();
+
+    private List<GriDisclosure> entities;
+    private List<String> completedCodes;
+    private GriProgressTally tally;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(catalog.size());
+        completedCodes = new ArrayList<>(catalog.size());
+        for (GriStandard standard : catalog.standards()) {
+            boolean filled = standard.getOrdinal() % 3 != 0;
+            entities.add(GriDisclosure.builder()
+                    .memberId(1L)
+                    .griCode(standard.getCode())
+                    .content(filled ? "입력된 공시 내용 " + standard.getCode() : "   ")
+                    .build());
+            if (filled) {
+                completedCodes.add(standard.getCode());
+            }
+        }
+        tally = GriProgressTally.from(catalog, completedCodes);
+    }
+
+    @Benchmark
+    public int entityScan() {
+        return (int) entities.stream()
+                .filter(d -> d.getContent() != null && !d.getContent().trim().isEmpty())
+                .count();
+    }
+
+    @Benchmark
+    public GriProgressTally catalogTally() {
+        return GriProgressTally.from(catalog, completedCodes);
+    }
+
+    @Benchmark
+    public GriProgressTally incrementalApply() {
+        return tally.apply("401-1", false, true);
+    }
+
+    @Benchmark
+    public GriStandard catalogLookup() {
+        return catalog.get("305-3");
+    }
+}
@@ -0,0 +1,236 @@
+package com.nsmm.esg.griservice.catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * GRI 표준 공시 항목 카탈로그 (불변, 기동 시 1회 적재)
+ *
+ * - 클래스패스의 gri/gri-catalog.tsv 를 읽어 구성
+ * - 코드 조회는 문자열 분리/해시 없이 "시리즈-번호"를 숫자로 파싱하여 2차원 배열에서 바로 조회
+ * - 진행률 분모(전체/시리즈별/카테고리별 항목 수), 요청 검증, 응답 지표명/카테고리 보강에 사용
+ */
+public final class GriCatalog {
+
+    private static final String RESOURCE = "/gri/gri-catalog.tsv";
+
+    // 시리즈 번호 상한 (GRI 2 ~ 419)
+    private static final int MAX_SERIES = 1000;
+
+    private static final GriCatalog INSTANCE = load();
+
+    private final List<GriStandard> standards;
+    private final int[] seriesIndexByNumber;   // 시리즈 번호 → 시리즈 인덱스 (-1: 없음)
+    private final GriStandard[][] table;        // [시리즈 인덱스][공시 번호]
+    private final List<String> seriesKeys;
+    private final int[] seriesSizes;
+    private final List<String> categoryKeys;
+    private final int[] categorySizes;
+    private final Map<String, Integer> seriesIndexes;
+    private final Map<String, Integer> categoryIndexes;
+
+    private GriCatalog(List<GriStandard> standards, int[] seriesIndexByNumber, GriStandard[][] table,
+                       Map<String, Integer> seriesIndexes, int[] seriesSizes,
+                       Map<String, Integer> categoryIndexes, int[] categorySizes) {
+        this.standards = standards;
+        this.seriesIndexByNumber = seriesIndexByNumber;
+        this.table = table;
+        this.seriesKeys = List.copyOf(seriesIndexes.keySet());
+        this.seriesSizes = seriesSizes;
+        this.categoryKeys = List.copyOf(categoryIndexes.keySet());
+        this.categorySizes = categorySizes;
+        this.seriesIndexes = Map.copyOf(seriesIndexes);
+        this.categoryIndexes = Map.copyOf(categoryIndexes);
+    }
+
+    public static GriCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 코드로 공시 항목 조회 (없으면 null)
+     */
+    public GriStandard get(String code) {
+        if (code == null) {
+            return null;
+        }
+        int dash = code.indexOf('-');
+        if (dash <= 0) {
+            return null;
+        }
+        int series = parseNumber(code, 0, dash);
+        int number = parseNumber(code, dash + 1, code.length());
+        if (series < 0 || series >= MAX_SERIES || number < 0) {
+            return null;
+        }
+        int seriesIndex = seriesIndexByNumber[series];
+        if (seriesIndex < 0) {
+            return null;
+        }
+        GriStandard[] row = table[seriesIndex];
+        return number < row.length ? row[number] : null;
+    }
+
+    public Optional<GriStandard> find(String code) {
+        return Optional.ofNullable(get(code));
+    }
+
+    public boolean contains(String code) {
+        return get(code) != null;
+    }
+
+    /**
+     * 저장된 지표명이 없으면 카탈로그 지표명으로 보강
+     */
+    public String indicatorOf(String code, String stored) {
+        if (stored != null) {
+            return stored;
+        }
+        GriStandard standard = get(code);
+        return standard == null ? null : standard.getIndicator();
+    }
+
+    /**
+     * 저장된 카테고리가 없으면 카탈로그 카테고리로 보강
+     */
+    public String categoryOf(String code, String stored) {
+        if (stored != null) {
+            return stored;
+        }
+        GriStandard standard = get(code);
+        return standard == null ? null : standard.getCategory();
+    }
+
+    public List<GriStandard> standards() {
+        return standards;
+    }
+
+    public int size() {
+        return standards.size();
+    }
+
+    public List<String> seriesKeys() {
+        return seriesKeys;
+    }
+
+    /**
+     * 시리즈 키의 인덱스 (없으면 -1)
+     */
+    public int seriesIndexOf(String series) {
+        return seriesIndexes.getOrDefault(series, -1);
+    }
+
+    public int seriesSize(int seriesIndex) {
+        return seriesSizes[seriesIndex];
+    }
+
+    public List<String> categoryKeys() {
+        return categoryKeys;
+    }
+
+    /**
+     * 카테고리 키의 인덱스 (없으면 -1)
+     */
+    public int categoryIndexOf(String category) {
+        return categoryIndexes.getOrDefault(category, -1);
+    }
+
+    public int categorySize(int categoryIndex) {
+        return categorySizes[categoryIndex];
+    }
+
+    // 0~9999 범위의 10진수만 허용, 그 외 -1
+    private static int parseNumber(String value, int from, int to) {
+        if (from >= to || to - from > 4) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static GriCatalog load() {
+        List<String[]> rows = new ArrayList<>();
+        try (InputStream in = GriCatalog.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("GRI 카탈로그 리소스가 없습니다: " + RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length != 3) {
+                    throw new IllegalStateException("GRI 카탈로그 형식 오류: " + line);
+                }
+                rows.add(columns);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, Integer> seriesIndexes = new LinkedHashMap<>();
+        Map<String, Integer> categoryIndexes = new LinkedHashMap<>();
+        List<GriStandard> standards = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            String code = row[0];
+            String series = code.substring(0, code.indexOf('-'));
+            int seriesIndex = seriesIndexes.computeIfAbsent(series, k -> seriesIndexes.size());
+            int categoryIndex = categoryIndexes.computeIfAbsent(row[1], k -> categoryIndexes.size());
+            standards.add(new GriStandard(code, series, row[1], row[2], standards.size(), seriesIndex, categoryIndex));
+        }
+
+        int[] seriesIndexByNumber = new int[MAX_SERIES];
+        Arrays.fill(seriesIndexByNumber, -1);
+        seriesIndexes.forEach((series, index) -> seriesIndexByNumber[Integer.parseInt(series)] = index);
+
+        int[] seriesSizes = new int[seriesIndexes.size()];
+        int[] categorySizes = new int[categoryIndexes.size()];
+        int[] maxNumbers = new int[seriesIndexes.size()];
+        for (GriStandard standard : standards) {
+            seriesSizes[standard.getSeriesIndex()]++;
+            categorySizes[standard.getCategoryIndex()]++;
+            int number = Integer.parseInt(standard.getCode().substring(standard.getSeries().length() + 1));
+            maxNumbers[standard.getSeriesIndex()] = Math.max(maxNumbers[standard.getSeriesIndex()], number);
+        }
+        GriStandard[][] table = new GriStandard[seriesIndexes.size()][];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = new GriStandard[maxNumbers[i] + 1];
+        }
+        for (GriStandard standard : standards) {
+            int number = Integer.parseInt(standard.getCode().substring(standard.getSeries().length() + 1));
+            if (table[standard.getSeriesIndex()][number] != null) {
+                throw new IllegalStateException("GRI 카탈로그 코드 중복: " + standard.getCode());
+            }
+            table[standard.getSeriesIndex()][number] = standard;
+        }
+
+        return new GriCatalog(
+                Collections.unmodifiableList(standards),
+                seriesIndexByNumber,
+                table,
+                seriesIndexes,
+                seriesSizes,
+                categoryIndexes,
+                categorySizes);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nsmm.esg.griservice.catalog;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * GRI 표준 공시 항목 (카탈로그 한 건)
+ * - code: 공시 코드 (예: "401-1")
+ * - series: 표준 시리즈 (예: "401")
+ * - category: 주제 (예: "고용")
+ * - indicator: 지표명 (예: "신규채용자 수 및 이직자 현황")
+ * - ordinal / seriesIndex / categoryIndex: 카탈로그 내 배열 인덱스 (집계용)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class GriStandard {
+    private final String code;
+    private final String series;
+    private final String category;
+    private final String indicator;
+    private final int ordinal;
+    private final int seriesIndex;
+    private final int categoryIndex;
+}
@@ -0,0 +1,72 @@
+package com.nsmm.esg.griservice.config;
+
+import com.nsmm.esg.griservice.datasource.GriDataSourceProperties;
+import com.nsmm.esg.griservice.datasource.GriReadYourWrites;
+import com.nsmm.esg.griservice.datasource.GriReplicaLagMonitor;
+import com.nsmm.esg.griservice.datasource.GriRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 DataSource 설정 (gri.datasource.routing.enabled=true 일 때만)
+ *
+ * - primary: spring.datasource.* / spring.datasource.hikari.* 그대로 사용
+ * - 복제본: gri.datasource.routing.replicas[n] 마다 읽기 전용 Hikari 풀 생성
+ * - 애플리케이션 DataSource 는 LazyConnectionDataSourceProxy(GriRoutingDataSource)
+ *   (비활성화 시 Spring Boot 기본 DataSource 사용)
+ */
+@Configuration
+@EnableConfigurationProperties(GriDataSourceProperties.class)
+@ConditionalOnProperty(name = "gri.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("gri-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public GriReplicaLagMonitor replicaLagMonitor(GriDataSourceProperties properties,
+                                                  DataSourceProperties dataSourceProperties,
+                                                  MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            GriDataSourceProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("gri-" + name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(name, dataSource);
+        }
+        return new GriReplicaLagMonitor(replicas, properties.getMaxLag(), properties.isLagCheck(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 GriReplicaLagMonitor replicaLagMonitor,
+                                 GriReadYourWrites readYourWrites) {
+        GriRoutingDataSource routing = new GriRoutingDataSource(primaryDataSource, replicaLagMonitor, readYourWrites);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,41 @@
+package com.nsmm.esg.griservice.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 로그 appender 의 유실(링 버퍼 가득 참) 이벤트 수 집계
+ *
+ * - logback-spring.xml 의 비동기 appender 에 listener 로 등록 (Spring 컨텍스트보다 먼저 생성되므로 정적 카운터 사용)
+ * - MetricsConfig 가 appender 별 gri.log.events.dropped 카운터로 노출
+ */
+public class DroppedLogEventListener implements AppenderListener<ILoggingEvent> {
+
+    private static final Map<String, AtomicLong> DROPPED = new ConcurrentHashMap<>();
+
+    @Override
+    public void appenderStarted(Appender<ILoggingEvent> appender) {
+        counter(appender.getName());
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        counter(appender.getName()).incrementAndGet();
+    }
+
+    /**
+     * appender 이름 → 유실 이벤트 수
+     */
+    public static Map<String, AtomicLong> droppedCounts() {
+        return DROPPED;
+    }
+
+    private static AtomicLong counter(String appenderName) {
+        return DROPPED.computeIfAbsent(String.valueOf(appenderName), name -> new AtomicLong());
+    }
+}
@@ -0,0 +1,40 @@
+package com.nsmm.esg.griservice.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * 지연 초기화(lazy 프로파일) 제외 대상 설정
+ * - spring.main.lazy-initialization=true 이면 모든 빈이 처음 사용할 때 생성됨
+ * - @Scheduled 작업은 빈이 생성되어야 등록되므로 스케줄 작업이 있는 빈
+ *   (아웃박스 릴레이, 진행률 요약 보정, 복제 지연 확인 등)은 기동 시 즉시 생성
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        Set<Method> scheduled = MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                                || AnnotatedElementUtils.hasAnnotation(method, Schedules.class) ? Boolean.TRUE : null)
+                .keySet();
+        return !scheduled.isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.nsmm.esg.griservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Micrometer 메트릭 설정
+ *
+ * - @Timed 어노테이션 처리(TimedAspect): 컨트롤러 메서드별 gri.controller 타이머
+ * - Hikari 커넥션 풀 포화도 게이지: (사용 중 + 대기 중) / 최대 풀 크기
+ *   (hikaricp.connections.* 기본 지표는 Spring Boot가 자동 등록)
+ * - 비동기 로그 appender 별 유실 이벤트 카운터
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder hikariPoolSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikari = unwrapHikari(dataSource);
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("gri.db.pool.saturation", hikari, MetricsConfig::saturation)
+                    .description("(active + pending) / maximumPoolSize, 1 이상이면 커넥션 대기 발생")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder droppedLogEventMetrics() {
+        return registry -> DroppedLogEventListener.droppedCounts().forEach((appender, dropped) ->
+                FunctionCounter.builder("gri.log.events.dropped", dropped, Number::doubleValue)
+                        .description("비동기 로그 링 버퍼가 가득 차서 버린 로그 이벤트 수")
+                        .tag("appender", appender)
+                        .register(registry));
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (pool.getActiveConnections() + pool.getThreadsAwaitingConnection()) / (double) hikari.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
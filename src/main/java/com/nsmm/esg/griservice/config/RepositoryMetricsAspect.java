@@ -0,0 +1,150 @@
+package com.nsmm.esg.griservice.config;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriDisclosureSummary;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.Hibernate;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 저장소(Repository) 쿼리 메트릭 수집 AOP
+ *
+ * - gri.repository.query: 저장소 메서드별 실행 시간 (p50/p95/p99 + 히스토그램)
+ * - gri.repository.rows: 조회/변경된 행 수
+ * - gri.repository.fetched.bytes: 조회 결과의 문자열 필드 크기 기반 추정 바이트
+ *   (content 는 문자열을 다시 훑지 않고 저장된 content_size 로 계산, GriDisclosure 엔티티는 content 가 로딩된 경우에만 포함)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    // 행당 고정 크기 추정치 (id, memberId, 시각 컬럼 등)
+    private static final int ROW_OVERHEAD_BYTES = 48;
+
+    private static final String BASE_PACKAGE = "com.nsmm.esg.griservice";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("bean(*Repository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            record(repository, method, result);
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("gri.repository.query")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // Spring Data 저장소는 프록시가 구현한 저장소 인터페이스 이름, 그 외에는 대상 클래스 이름 사용
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getPackageName().startsWith(BASE_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    private void record(String repository, String method, Object result) {
+        long rows = 0;
+        long bytes = 0;
+        if (result instanceof Optional<?> optional) {
+            result = optional.orElse(null);
+        }
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+            for (Object row : collection) {
+                bytes += estimateBytes(row);
+            }
+        } else if (result instanceof Map<?, ?> map) {
+            rows = map.size();
+        } else if (result instanceof Integer affected) {
+            rows = affected;
+        } else if (result instanceof int[] batch) {
+            for (int affected : batch) {
+                rows += Math.max(affected, 0);
+            }
+        } else if (result != null && !(result instanceof Boolean)) {
+            rows = 1;
+            bytes = estimateBytes(result);
+        }
+        DistributionSummary.builder("gri.repository.rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(rows);
+        DistributionSummary.builder("gri.repository.fetched.bytes")
+                .baseUnit("bytes")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private static long estimateBytes(Object row) {
+        if (row instanceof GriDisclosure d) {
+            // getContent() 는 지연 로딩을 일으키므로 메트릭 수집에서 호출하지 않음
+            long contentBytes = d.getContentSize() != null && Hibernate.isPropertyInitialized(d, "content")
+                    ? d.getContentSize()
+                    : 0;
+            return ROW_OVERHEAD_BYTES + utf8Length(d.getGriCode()) + utf8Length(d.getIndicator())
+                    + utf8Length(d.getCategory()) + contentBytes;
+        }
+        if (row instanceof GriDisclosureResponse d) {
+            return ROW_OVERHEAD_BYTES + utf8Length(d.getGriCode()) + utf8Length(d.getIndicator())
+                    + utf8Length(d.getCategory()) + contentBytes(d.getContent(), d.getContentSize());
+        }
+        if (row instanceof GriDisclosureSummary d) {
+            return ROW_OVERHEAD_BYTES + utf8Length(d.getGriCode()) + utf8Length(d.getIndicator())
+                    + utf8Length(d.getCategory()) + contentBytes(d.getContent(), d.getContentSize());
+        }
+        return ROW_OVERHEAD_BYTES;
+    }
+
+    // 조회한 content 크기: 저장된 content_size, 함께 조회하지 않은 경우(목록 fields 선택)는 문자 수로 근사 (문자열 미순회)
+    private static long contentBytes(String content, Integer contentSize) {
+        if (content == null) {
+            return 0;
+        }
+        return contentSize != null ? contentSize : content.length();
+    }
+
+    // 한글 위주 텍스트 기준 UTF-8 크기 추정 (ASCII 1바이트, 그 외 3바이트, 코드/지표명처럼 짧은 필드용)
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            length += value.charAt(i) < 0x80 ? 1 : 3;
+        }
+        return length;
+    }
+}
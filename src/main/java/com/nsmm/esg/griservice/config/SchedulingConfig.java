@@ -0,0 +1,12 @@
+package com.nsmm.esg.griservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화 (진행률 요약 보정 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.nsmm.esg.griservice.config;
+
+import com.nsmm.esg.griservice.datasource.GriReadRoutingInterceptor;
+import com.nsmm.esg.griservice.ratelimit.GriRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ * - 공시 항목/진행률 API 사용자별 요청 속도 제한 인터셉터 등록 (서비스 간 일괄 진행률 조회는 제외)
+ * - 읽기 복제본 라우팅용 요청 사용자 지정 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final GriRateLimitInterceptor griRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(griRateLimitInterceptor)
+                .addPathPatterns("/api/v1/gri", "/api/v1/gri/**", "/api/v1/internal/gri/progress");
+        registry.addInterceptor(new GriReadRoutingInterceptor()).addPathPatterns("/api/v1/**");
+    }
+}
@@ -0,0 +1,89 @@
+package com.nsmm.esg.griservice.controller;
+
+import com.nsmm.esg.griservice.dto.GriChangeFeedResponse;
+import com.nsmm.esg.griservice.dto.GriExportFormat;
+import com.nsmm.esg.griservice.dto.GriPartitionStatsResponse;
+import com.nsmm.esg.griservice.dto.GriSearchResponse;
+import com.nsmm.esg.griservice.service.GriDisclosureExportService;
+import com.nsmm.esg.griservice.service.GriOutboxService;
+import com.nsmm.esg.griservice.service.GriPartitionScanService;
+import com.nsmm.esg.griservice.service.GriSearchService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 내부(관리자/배치) 전용 GRI API 컨트롤러
+ * - 전체 사용자 대상 작업을 제공하며 /api/v1/internal 경로로만 노출
+ */
+@Timed(value = "gri.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/internal/gri")
+public class GriAdminController {
+
+    private final GriDisclosureExportService griDisclosureExportService;
+    private final GriSearchService griSearchService;
+    private final GriOutboxService griOutboxService;
+    private final GriPartitionScanService griPartitionScanService;
+
+    /**
+     * [GET] 전체 사용자 GRI 공시 항목 내보내기
+     * - format=ndjson(기본) 또는 csv
+     * - DB 커서에서 읽은 행을 곧바로 응답으로 스트리밍 (야간 리포트 배치용)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format) {
+        GriExportFormat exportFormat = GriExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"gri-disclosures-all." + exportFormat.getExtension() + "\"")
+                .body(out -> griDisclosureExportService.export(null, exportFormat, out));
+    }
+
+    /**
+     * [GET] 전체 사용자 대상 GRI 공시 항목 전문 검색
+     * - memberId 를 지정하면 해당 사용자 항목만 검색
+     */
+    @GetMapping("/search")
+    public ResponseEntity<GriSearchResponse> search(@RequestParam String q,
+                                                    @RequestParam(required = false) Long memberId,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(griSearchService.search(memberId, q, size));
+    }
+
+    /**
+     * [POST] 검색 색인 전체 재생성 (비동기, 다른 인스턴스 변경 반영/색인 손상 복구용)
+     */
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Void> reindex() {
+        griSearchService.requestReindex();
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * [GET] GRI 공시 항목 변경 피드 (CDC 대체)
+     * - since 이후의 등록/수정/삭제 이벤트를 시퀀스 순으로 반환, 다음 조회 시 nextSince 를 since 로 전달
+     * - memberId 를 지정하면 해당 사용자 항목의 변경만 반환
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<GriChangeFeedResponse> changes(@RequestParam(defaultValue = "0") long since,
+                                                         @RequestParam(required = false) Long memberId,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(griOutboxService.getChanges(memberId, since, limit));
+    }
+
+    /**
+     * [GET] gri_disclosure 파티션별 항목 통계
+     * - 파티션마다 별도 커넥션으로 병렬 스캔 (gri.partition.scan.parallelism)
+     * - 파티션 간 행/사용자 분포 편중 확인용
+     */
+    @GetMapping("/partitions")
+    public ResponseEntity<GriPartitionStatsResponse> partitionStats() {
+        return ResponseEntity.ok(griPartitionScanService.getStats());
+    }
+}
@@ -1,25 +1,46 @@
 package com.nsmm.esg.griservice.controller;
 
+import com.nsmm.esg.griservice.dto.GriBulkUpsertResponse;
+import com.nsmm.esg.griservice.dto.GriContentPatchRequest;
+import com.nsmm.esg.griservice.dto.GriDisclosurePageResponse;
 import com.nsmm.esg.griservice.dto.GriDisclosureRequest;
 import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriExportFormat;
+import com.nsmm.esg.griservice.dto.GriRevisionPageResponse;
+import com.nsmm.esg.griservice.dto.GriRevisionResponse;
+import com.nsmm.esg.griservice.dto.GriSearchResponse;
+import com.nsmm.esg.griservice.exception.GriNotFoundException;
+import com.nsmm.esg.griservice.service.GriDisclosureExportService;
 import com.nsmm.esg.griservice.service.GriDisclosureService;
+import com.nsmm.esg.griservice.service.GriEtags;
+import com.nsmm.esg.griservice.service.GriRevisionService;
+import com.nsmm.esg.griservice.service.GriSearchService;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * GRI 공시 항목에 대한 CRUD API 컨트롤러
  */
+@Timed(value = "gri.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/gri")
 public class GriDisclosureController {
 
     private final GriDisclosureService griDisclosureService;
+    private final GriDisclosureExportService griDisclosureExportService;
+    private final GriSearchService griSearchService;
+    private final GriRevisionService griRevisionService;
 
     /**
      * 인증된 사용자 ID를 요청 헤더에서 추출
@@ -27,12 +48,7 @@ public class GriDisclosureController {
      * - 없거나 비어있으면 기본값 1L 반환
      */
     private Long extractMemberId(HttpServletRequest request) {
-        String memberIdHeader = request.getHeader("X-MEMBER-ID");
-        if (memberIdHeader == null || memberIdHeader.isBlank()) {
-            System.out.println("⚠️ X-MEMBER-ID 누락 → 기본값 1L 사용");
-            return 1L;
-        }
-        return Long.parseLong(memberIdHeader);
+        return MemberIdHeader.extract(request);
     }
 
     /**
@@ -41,12 +57,66 @@ public class GriDisclosureController {
      * - X-MEMBER-ID 헤더에서 사용자 ID를 추출
      * - 해당 ID로 등록된 모든 GRI 항목을 조회하여 List 형태로 반환
      * - 비로그인 테스트 시 기본값 1L로 처리됨
+     * - ETag(항목 집합 지문)를 응답하며, If-None-Match가 일치하면 목록 조회 없이 304 반환
+     * - 200 응답의 ETag 는 반환하는 목록으로 계산 (지문 조회와 목록 조회가 서로 다른 시점/복제본을 볼 수 있으므로)
      */
     @GetMapping
     public ResponseEntity<List<GriDisclosureResponse>> getAll(HttpServletRequest request) {
         Long memberId = extractMemberId(request);
+        // 목록이 바뀌지 않았으면 항목을 조회하지 않고 304 응답
+        String etag = griDisclosureService.getListEtag(memberId);
+        if (GriEtags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<GriDisclosureResponse> responses = griDisclosureService.getAll(memberId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().eTag(GriEtags.ofMember(memberId, responses)).body(responses);
+    }
+
+    /**
+     * [GET] GRI 공시 항목 커서 기반 페이지 조회
+     * - size 파라미터가 있으면 전체 목록 대신 페이지 단위로 조회
+     * - cursor: 직전 응답의 nextCursor (첫 페이지는 생략)
+     * - fields: 쉼표로 구분된 조회 필드 (생략 시 content를 제외한 메타데이터만 반환)
+     *   예) fields=griCode,indicator,category,updatedAt
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<GriDisclosurePageResponse> getPage(@RequestParam int size,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) String fields,
+                                                             HttpServletRequest request) {
+        Long memberId = extractMemberId(request);
+        GriDisclosurePageResponse response = griDisclosureService.getPage(memberId, cursor, size, fields);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * [GET] GRI 공시 항목 전문 검색
+     * - q: 검색어 (content, indicator 대상, 한국어 형태소 단위로 일치)
+     * - size: 최대 결과 수 (기본 20, 최대 100)
+     * - 로그인된 사용자(memberId)의 항목만 관련도 순으로 반환하며, 일치 부분을 하이라이트한 조각을 포함
+     */
+    @GetMapping("/search")
+    public ResponseEntity<GriSearchResponse> search(@RequestParam String q,
+                                                    @RequestParam(defaultValue = "20") int size,
+                                                    HttpServletRequest request) {
+        Long memberId = extractMemberId(request);
+        return ResponseEntity.ok(griSearchService.search(memberId, q, size));
+    }
+
+    /**
+     * [GET] GRI 공시 항목 내보내기
+     * - 로그인된 사용자(memberId)의 GRI 공시 항목 전체를 NDJSON 또는 CSV로 스트리밍
+     * - format=ndjson(기본) 또는 csv
+     * - 목록을 메모리에 올리지 않고 DB 커서에서 읽은 행을 곧바로 응답에 기록
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request) {
+        Long memberId = extractMemberId(request);
+        GriExportFormat exportFormat = GriExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"gri-disclosures." + exportFormat.getExtension() + "\"")
+                .body(out -> griDisclosureExportService.export(memberId, exportFormat, out));
     }
 
     /**
@@ -54,12 +124,23 @@ public class GriDisclosureController {
      * - PathVariable로 전달된 griCode와 사용자 ID를 기반으로 해당 GRI 항목을 조회
      * - X-MEMBER-ID 헤더에서 사용자 ID를 추출
      * - 본인 소유의 GRI 항목만 조회 가능하며, 없을 경우 예외 발생
+     * - ETag(ID + 수정 시각)를 응답하며, If-None-Match가 일치하면 본문 조회 없이 304 반환
+     * - 200 응답의 ETag 는 반환하는 항목의 ID + 수정 시각으로 계산
      */
     @GetMapping("/{griCode}")
     public ResponseEntity<GriDisclosureResponse> getByCode(@PathVariable String griCode, HttpServletRequest request) {
         Long memberId = extractMemberId(request);
+        // 항목이 바뀌지 않았으면 content를 읽지 않고 304 응답
+        Optional<String> etag = griDisclosureService.getEtag(memberId, griCode);
+        if (etag.isEmpty()) {
+            // 항목이 없으면 본문 조회 쿼리 없이 바로 404 (아직 작성하지 않은 코드 조회가 흔함)
+            throw GriNotFoundException.DISCLOSURE;
+        }
+        if (GriEtags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
         GriDisclosureResponse response = griDisclosureService.getByCode(memberId, griCode);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(GriEtags.ofDisclosure(response)).body(response);
     }
 
     /**
@@ -67,27 +148,81 @@ public class GriDisclosureController {
      * - 요청 바디(GriDisclosureRequest)에 담긴 indicator, griCode, category, content를 저장
      * - X-MEMBER-ID 헤더에서 사용자 ID를 추출하여 등록 주체로 사용
      * - 이미 동일 griCode가 존재할 경우 중복 예외 발생
+     * - Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에 최초 응답을 그대로 반환
      */
     @PostMapping
-    public ResponseEntity<GriDisclosureResponse> create(@RequestBody GriDisclosureRequest request, HttpServletRequest httpRequest) {
+    public ResponseEntity<GriDisclosureResponse> create(@RequestBody GriDisclosureRequest request,
+                                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                        HttpServletRequest httpRequest) {
         Long memberId = extractMemberId(httpRequest);
-        GriDisclosureResponse response = griDisclosureService.create(memberId, request);
+        GriDisclosureResponse response = griDisclosureService.create(memberId, request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * [POST] GRI 공시 항목 일괄 등록/수정
+     * - 요청 바디(GriDisclosureRequest 목록)를 하나의 트랜잭션으로 반영
+     * - 이미 존재하는 griCode는 content를 수정하고, 없으면 신규 등록
+     * - 항목별 처리 결과(CREATED / UPDATED / UNCHANGED)를 요청 순서대로 반환 (UNCHANGED: 기존 content 와 같아 수정하지 않음)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<GriBulkUpsertResponse> upsertAll(@RequestBody List<GriDisclosureRequest> requests, HttpServletRequest httpRequest) {
+        Long memberId = extractMemberId(httpRequest);
+        GriBulkUpsertResponse response = griDisclosureService.upsertAll(memberId, requests);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * [PUT] GRI 공시 항목 수정
      * - 요청 바디(GriDisclosureRequest)의 content를 수정 대상 ID에 반영
      * - 해당 항목의 작성자가 본인인지 검증 후 수정 진행
+     * - version을 함께 보내면 버전이 일치할 때만 수정하며, 다르면 409 응답
      * - ID 또는 권한이 없을 경우 예외 발생
      */
     @PutMapping("/{id}")
     public ResponseEntity<GriDisclosureResponse> update(@PathVariable Long id, @RequestBody GriDisclosureRequest request, HttpServletRequest httpRequest) {
         Long memberId = extractMemberId(httpRequest);
-        GriDisclosureResponse response = griDisclosureService.update(id, memberId, request.getContent());
+        GriDisclosureResponse response = griDisclosureService.update(id, memberId, request.getContent(), request.getVersion());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * [PATCH] GRI 공시 항목 부분 수정
+     * - 요청 바디(GriContentPatchRequest)의 편집 목록만 content에 순서대로 적용 (자동 저장용)
+     * - version이 현재 버전과 다르면 409 응답
+     * - ID 또는 권한이 없을 경우 예외 발생
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<GriDisclosureResponse> patch(@PathVariable Long id, @RequestBody GriContentPatchRequest request, HttpServletRequest httpRequest) {
+        Long memberId = extractMemberId(httpRequest);
+        GriDisclosureResponse response = griDisclosureService.patch(id, memberId, request);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * [GET] GRI 공시 항목 content 이력 목록
+     * - 최신 버전부터 버전/저장 형식/크기/해시/시각만 반환 (content 제외)
+     * - beforeVersion: 직전 응답의 nextBeforeVersion (첫 페이지는 생략)
+     * - 본인 항목의 이력만 조회 가능 (항목 삭제 후에도 조회 가능)
+     */
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<GriRevisionPageResponse> getRevisions(@PathVariable Long id,
+                                                                @RequestParam(required = false) Long beforeVersion,
+                                                                @RequestParam(defaultValue = "50") int size,
+                                                                HttpServletRequest request) {
+        Long memberId = extractMemberId(request);
+        return ResponseEntity.ok(griRevisionService.getRevisions(id, memberId, beforeVersion, size));
+    }
+
+    /**
+     * [GET] GRI 공시 항목 특정 버전 content 조회
+     */
+    @GetMapping("/{id}/revisions/{version}")
+    public ResponseEntity<GriRevisionResponse> getRevision(@PathVariable Long id, @PathVariable Long version, HttpServletRequest request) {
+        Long memberId = extractMemberId(request);
+        return ResponseEntity.ok(griRevisionService.getRevision(id, memberId, version));
+    }
+
     /**
      * [DELETE] GRI 공시 항목 삭제
      * - URL의 ID에 해당하는 항목을 삭제
@@ -1,12 +1,19 @@
 package com.nsmm.esg.griservice.controller;
 
 import com.nsmm.esg.griservice.dto.GriProgressResponse;
+import com.nsmm.esg.griservice.service.GriEtags;
 import com.nsmm.esg.griservice.service.GriProgressService;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.Map;
+
+@Timed(value = "gri.controller", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/internal/gri")
@@ -14,18 +21,33 @@ public class GriProgressController {
 
     private final GriProgressService griProgressService;
 
+    /**
+     * [GET] GRI 진행률 조회
+     * - 응답 값으로 계산한 ETag를 함께 반환
+     * - If-None-Match가 일치하면 본문 직렬화 없이 304 반환 (캐시 적중 시 DB 조회도 없음)
+     */
     @GetMapping("/progress")
-    public ResponseEntity<GriProgressResponse> getProgress(HttpServletRequest request) {
+    public ResponseEntity<GriProgressResponse> getProgress(HttpServletRequest request, WebRequest webRequest) {
         Long memberId = extractMemberId(request);
-        return ResponseEntity.ok(griProgressService.getProgress(memberId));
+        GriProgressResponse response = griProgressService.getProgress(memberId);
+        String etag = GriEtags.ofProgress(response);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // checkNotModified()가 304 상태와 ETag 헤더를 이미 설정함
+        }
+        return ResponseEntity.ok(response); // ETag 헤더는 checkNotModified()에서 설정됨
+    }
+
+    /**
+     * [POST] 여러 사용자의 GRI 진행률 일괄 조회 (그룹 대시보드용)
+     * - 요청 본문: memberId 배열 (최대 5000명)
+     * - 응답: memberId → 진행률 (요청 순서 유지)
+     */
+    @PostMapping("/progress/batch")
+    public ResponseEntity<Map<Long, GriProgressResponse>> getProgressBatch(@RequestBody List<Long> memberIds) {
+        return ResponseEntity.ok(griProgressService.getProgress(memberIds));
     }
 
     private Long extractMemberId(HttpServletRequest request) {
-        String header = request.getHeader("X-MEMBER-ID");
-        if (header == null || header.isBlank()) {
-            System.out.println("⚠️ X-MEMBER-ID 누락 → 기본값 1L 사용");
-            return 1L;
-        }
-        return Long.parseLong(header);
+        return MemberIdHeader.extract(request);
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.nsmm.esg.griservice.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * X-MEMBER-ID 요청 헤더 처리 유틸리티
+ * - 컨트롤러 공통으로 인증된 사용자 ID를 추출
+ */
+@Slf4j
+public final class MemberIdHeader {
+
+    public static final String NAME = "X-MEMBER-ID";
+
+    // 헤더가 없을 때 사용하는 기본 사용자 ID (비로그인 테스트용)
+    private static final Long DEFAULT_MEMBER_ID = 1L;
+
+    private MemberIdHeader() {
+    }
+
+    /**
+     * 인증된 사용자 ID를 요청 헤더에서 추출
+     * - 헤더: X-MEMBER-ID
+     * - 없거나 비어있으면 기본값 1L 반환
+     */
+    public static Long extract(HttpServletRequest request) {
+        return parse(request.getHeader(NAME));
+    }
+
+    public static Long parse(String header) {
+        if (header == null || header.isBlank()) {
+            log.debug("[X-MEMBER-ID] 헤더 누락, 기본 사용자 ID {} 사용", DEFAULT_MEMBER_ID);
+            return DEFAULT_MEMBER_ID;
+        }
+        return Long.parseLong(header);
+    }
+}
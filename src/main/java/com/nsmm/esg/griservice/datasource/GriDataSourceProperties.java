@@ -0,0 +1,34 @@
+package com.nsmm.esg.griservice.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (gri.datasource.routing.*)
+ * - replicas[n].username/password 를 생략하면 spring.datasource 계정 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gri.datasource.routing")
+public class GriDataSourceProperties {
+
+    private boolean enabled;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private boolean lagCheck = true;
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
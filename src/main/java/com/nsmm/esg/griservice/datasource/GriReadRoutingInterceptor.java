@@ -0,0 +1,39 @@
+package com.nsmm.esg.griservice.datasource;
+
+import com.nsmm.esg.griservice.controller.MemberIdHeader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청 사용자(X-MEMBER-ID)를 읽기 라우팅용으로 현재 스레드에 지정
+ * - 헤더가 없거나 숫자가 아니면 사용자 없음으로 처리 (인증 처리는 컨트롤러에서 수행)
+ */
+public class GriReadRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(MemberIdHeader.NAME);
+        if (header != null && !header.isBlank()) {
+            try {
+                GriReadYourWrites.bindMember(Long.parseLong(header.trim()));
+            } catch (NumberFormatException ignored) {
+                GriReadYourWrites.clearMember();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        GriReadYourWrites.clearMember();
+    }
+
+    /**
+     * 비동기 응답(스트리밍 내보내기 등)은 afterCompletion 이 요청 스레드에서 호출되지 않으므로 여기서 해제
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        GriReadYourWrites.clearMember();
+    }
+}
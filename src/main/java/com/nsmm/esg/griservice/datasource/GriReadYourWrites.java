@@ -0,0 +1,72 @@
+package com.nsmm.esg.griservice.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅의 자기 쓰기 읽기(read-your-writes) 보장
+ *
+ * - 사용자가 항목을 변경하면 커밋 이후 sticky-window 동안 그 사용자의 읽기를 primary 로 보냄
+ *   (복제 지연 중 방금 저장한 내용이 안 보이는 현상 방지, sticky-window 는 허용 복제 지연보다 길게 설정)
+ * - 요청 사용자는 GriReadRoutingInterceptor 가 X-MEMBER-ID 헤더로 현재 스레드에 지정
+ * - 인스턴스 메모리 기준이므로 다른 인스턴스에서 변경한 사용자는 알 수 없음
+ */
+@Component
+public class GriReadYourWrites {
+
+    private static final ThreadLocal<Long> CURRENT_MEMBER = new ThreadLocal<>();
+
+    // 최근 변경 사용자 (sticky-window 경과 시 제거)
+    private final Cache<Long, Boolean> recentWriters;
+
+    public GriReadYourWrites(@Value("${gri.datasource.routing.sticky-window:10s}") Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    /**
+     * 현재 요청 스레드의 사용자 지정 (요청 종료 시 clearMember 호출)
+     */
+    public static void bindMember(Long memberId) {
+        CURRENT_MEMBER.set(memberId);
+    }
+
+    public static void clearMember() {
+        CURRENT_MEMBER.remove();
+    }
+
+    public static Long currentMember() {
+        return CURRENT_MEMBER.get();
+    }
+
+    /**
+     * 사용자 변경 기록 (트랜잭션 진행 중이면 커밋 이후, 롤백되면 기록하지 않음)
+     */
+    public void markWritten(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(memberId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(memberId, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * 사용자의 읽기를 primary 로 보내야 하는지 여부
+     */
+    public boolean isSticky(Long memberId) {
+        return memberId != null && recentWriters.getIfPresent(memberId) != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.nsmm.esg.griservice.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 상태/복제 지연 감시
+ *
+ * - lag-check-interval 마다 복제본별 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 조회하여
+ *   max-lag 이하인 복제본만 읽기 대상으로 사용 (복제 중단/조회 실패/지연 초과 시 제외)
+ * - lag-check=false 이면 접속 가능 여부만 확인 (로컬/테스트용 단독 DB)
+ * - 사용 가능한 복제본이 없으면 GriRoutingDataSource 가 primary 로 읽음
+ * - 복제본 커넥션 풀을 소유하며 종료 시 함께 닫음
+ */
+@Slf4j
+public class GriReplicaLagMonitor implements AutoCloseable {
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final boolean lagCheck;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> available = List.of();
+
+    public GriReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, boolean lagCheck, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.lagCheck = lagCheck;
+        replicas.keySet().forEach(name -> {
+            healthy.put(name, false);
+            Gauge.builder("gri.db.replica.available", healthy, h -> h.getOrDefault(name, false) ? 1 : 0)
+                    .description("읽기 복제본 사용 가능 여부 (복제 지연이 max-lag 이하이면 1)")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 읽기에 사용할 복제본 (사용 가능한 복제본을 순서대로 돌아가며 선택)
+     */
+    public Optional<String> nextAvailable() {
+        List<String> current = available;
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(current.get(Math.floorMod(next.getAndIncrement(), current.size())));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${gri.datasource.routing.lag-check-interval:2s}")
+    public void check() {
+        replicas.forEach((name, dataSource) -> {
+            boolean ok = isWithinLag(name, dataSource);
+            Boolean before = healthy.put(name, ok);
+            if (before != null && before != ok) {
+                log.warn("[DB 복제본] {} 읽기 {}", name, ok ? "재개" : "제외");
+            }
+        });
+        available = replicas.keySet().stream().filter(healthy::get).toList();
+    }
+
+    private boolean isWithinLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!lagCheck) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                if (!rs.next()) {
+                    return false; // 복제가 설정되지 않음
+                }
+                long lag = rs.getLong(LAG_COLUMN);
+                return !rs.wasNull() && lag <= maxLagSeconds; // NULL: 복제 스레드 중단
+            }
+        } catch (SQLException e) {
+            log.debug("[DB 복제본] {} 상태 조회 실패: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
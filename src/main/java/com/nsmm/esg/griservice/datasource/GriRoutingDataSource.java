@@ -0,0 +1,42 @@
+package com.nsmm.esg.griservice.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * primary / 읽기 복제본 라우팅 DataSource
+ *
+ * - @Transactional(readOnly = true) 트랜잭션만 복제본으로 보내고, 그 외(쓰기/트랜잭션 밖)는 primary
+ * - 최근 변경한 사용자의 요청(GriReadYourWrites)과 사용 가능한 복제본이 없을 때는 primary
+ * - 트랜잭션 읽기 전용 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class GriRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final GriReplicaLagMonitor lagMonitor;
+    private final GriReadYourWrites readYourWrites;
+
+    public GriRoutingDataSource(DataSource primary, GriReplicaLagMonitor lagMonitor, GriReadYourWrites readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || readYourWrites.isSticky(GriReadYourWrites.currentMember())) {
+            return PRIMARY;
+        }
+        return lagMonitor.nextAvailable().orElse(PRIMARY);
+    }
+}
@@ -0,0 +1,34 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GRI 공시 항목 일괄 등록/수정 결과 DTO
+ * - createdCount / updatedCount / unchangedCount: 신규 등록, 수정, 내용이 같아 수정하지 않은 항목 수
+ * - items: 요청 순서대로 항목별 처리 결과
+ */
+@Getter
+@Builder
+public class GriBulkUpsertResponse {
+    private final int createdCount;
+    private final int updatedCount;
+    private final int unchangedCount;
+    private final List<Item> items;
+
+    public enum Status {
+        CREATED, // 신규 등록
+        UPDATED,  // 기존 항목 content 수정
+        UNCHANGED // 기존 항목과 content 가 같아 수정하지 않음 (버전/수정 시각 유지)
+    }
+
+    @Getter
+    @Builder
+    public static class Item {
+        private final String griCode;
+        private final Long id;
+        private final Status status;
+    }
+}
@@ -0,0 +1,38 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 공시 항목 변경 이벤트 DTO (변경 피드 응답 및 브로커 발행 메시지)
+ * - sequence: 변경 피드 시퀀스 (커밋 순서, 빈틈 없음, 다음 조회 시 since 로 사용)
+ * - contentHash: 변경 후 content 해시 (삭제 시 null), 소비자는 해시가 다를 때만 본문을 다시 조회
+ */
+@Getter
+@Builder
+public class GriChangeEvent {
+    private final Long sequence;
+    private final String eventType; // CREATED / UPDATED / DELETED
+    private final Long disclosureId;
+    private final Long memberId;
+    private final String griCode;
+    private final Long version;
+    private final String contentHash;
+    private final LocalDateTime occurredAt;
+
+    public static GriChangeEvent fromEntity(GriOutboxEvent event) {
+        return GriChangeEvent.builder()
+                .sequence(event.getFeedSeq())
+                .eventType(event.getEventType().name())
+                .disclosureId(event.getDisclosureId())
+                .memberId(event.getMemberId())
+                .griCode(event.getGriCode())
+                .version(event.getVersion())
+                .contentHash(event.getContentHash())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
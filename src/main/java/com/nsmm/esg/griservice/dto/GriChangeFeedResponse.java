@@ -0,0 +1,20 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GRI 공시 항목 변경 피드 응답 DTO
+ * - events: 시퀀스 오름차순 변경 이벤트
+ * - nextSince: 다음 요청의 since 값 (이벤트가 없으면 요청한 since 그대로)
+ * - hasMore: 바로 이어서 조회할 이벤트가 더 있는지 여부
+ */
+@Getter
+@Builder
+public class GriChangeFeedResponse {
+    private final List<GriChangeEvent> events;
+    private final Long nextSince;
+    private final boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GRI 공시 항목 content 부분 수정(PATCH) 요청 DTO
+ * - version: 클라이언트가 마지막으로 받은 항목 버전 (일치하지 않으면 409)
+ * - edits: 순서대로 적용할 텍스트 편집 목록 (자동 저장 시 변경된 부분만 전송)
+ */
+@Getter
+@Builder
+public class GriContentPatchRequest {
+    private final Long version;
+    private final List<GriTextEdit> edits;
+}
@@ -0,0 +1,59 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 목록 조회 시 선택 가능한 GRI 항목 필드 (fields= 파라미터)
+ * - property: 요청 파라미터 및 JPQL 속성 이름
+ * - fields 미지정 시 content(본문)를 제외한 메타데이터만 조회
+ * - contentSize/contentHash 는 본문(blob)을 읽지 않고 크기와 변경 여부를 확인할 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GriDisclosureField {
+    ID("id"),
+    GRI_CODE("griCode"),
+    INDICATOR("indicator"),
+    CATEGORY("category"),
+    CONTENT("content"),
+    CONTENT_SIZE("contentSize"),
+    CONTENT_HASH("contentHash"),
+    MEMBER_ID("memberId"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String property;
+
+    // fields 미지정 시 기본 필드 (content 제외)
+    public static final Set<GriDisclosureField> DEFAULTS =
+            EnumSet.of(ID, GRI_CODE, INDICATOR, CATEGORY, CREATED_AT, UPDATED_AT);
+
+    /**
+     * 쉼표로 구분된 필드 목록 파싱 (예: "griCode,indicator,updatedAt")
+     * - griCode는 커서 계산에 필요하므로 항상 포함
+     */
+    public static Set<GriDisclosureField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.copyOf(DEFAULTS);
+        }
+        Set<GriDisclosureField> parsed = EnumSet.of(GRI_CODE);
+        for (String token : fields.split(",")) {
+            parsed.add(from(token.trim()));
+        }
+        return parsed;
+    }
+
+    private static GriDisclosureField from(String name) {
+        for (GriDisclosureField field : values()) {
+            if (field.property.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidGriRequestException("지원하지 않는 필드입니다: " + name);
+    }
+}
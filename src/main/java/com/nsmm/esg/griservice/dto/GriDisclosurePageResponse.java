@@ -0,0 +1,19 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GRI 공시 항목 커서 기반 페이지 응답 DTO
+ * - items: griCode 오름차순 항목 목록
+ * - nextCursor: 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class GriDisclosurePageResponse {
+    private final List<GriDisclosureSummary> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -1,5 +1,8 @@
 package com.nsmm.esg.griservice.dto;
 
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.catalog.GriStandard;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
 import com.nsmm.esg.griservice.entity.GriDisclosure;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,17 +12,49 @@ import lombok.Getter;
 @Builder
 public class GriDisclosureRequest {
     private final String griCode;
-    private final String indicator;
-    private final String category;
+    private final String indicator; // 생략 가능 (카탈로그 지표명 사용)
+    private final String category;  // 생략 가능 (카탈로그 카테고리 사용)
     private final String content;
+    private final Long version; // 수정 시 클라이언트가 가진 항목 버전 (지정 시 버전 조건부 수정)
 
     public GriDisclosure toEntity(Long memberId) {
         return GriDisclosure.builder()
                 .memberId(memberId)
                 .griCode(griCode)
-                .indicator(indicator)
-                .category(category)
+                .indicator(indicatorOverride())
+                .category(categoryOverride())
                 .content(content)
                 .build();
     }
+
+    /**
+     * 저장할 지표명 (비어 있거나 카탈로그 지표명과 같으면 null)
+     */
+    public String indicatorOverride() {
+        GriStandard standard = GriCatalog.getInstance().get(griCode);
+        return override(indicator, standard == null ? null : standard.getIndicator());
+    }
+
+    /**
+     * 저장할 카테고리 (비어 있거나 카탈로그 카테고리와 같으면 null)
+     */
+    public String categoryOverride() {
+        GriStandard standard = GriCatalog.getInstance().get(griCode);
+        return override(category, standard == null ? null : standard.getCategory());
+    }
+
+    /**
+     * 요청 내용 해시 (멱등성 키 재사용 검증용, version 제외)
+     */
+    public String fingerprint() {
+        return GriContentCodec.hashOf(String.join("\u0000",
+                String.valueOf(griCode), String.valueOf(indicator), String.valueOf(category), String.valueOf(content)));
+    }
+
+    private static String override(String requested, String catalogValue) {
+        if (requested == null || requested.isBlank() || requested.equals(catalogValue)) {
+            return null;
+        }
+        return requested;
+    }
 }
@@ -1,5 +1,6 @@
 package com.nsmm.esg.griservice.dto;
 
+import com.nsmm.esg.griservice.catalog.GriCatalog;
 import com.nsmm.esg.griservice.entity.GriDisclosure;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,20 +15,29 @@ public class GriDisclosureResponse {
     private final String indicator;
     private final String category;
     private final String content;
+    private final Integer contentSize; // content 원문 UTF-8 크기 (bytes, 저장된 content_size 값)
     private final Long memberId;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final Long version;
 
+    /**
+     * 엔티티 → 응답 변환
+     * - 저장된 지표명/카테고리가 없으면 GRI 카탈로그 값으로 채움
+     */
     public static GriDisclosureResponse fromEntity(GriDisclosure entity) {
+        GriCatalog catalog = GriCatalog.getInstance();
         return GriDisclosureResponse.builder()
                 .id(entity.getId())
                 .griCode(entity.getGriCode())
-                .indicator(entity.getIndicator())
-                .category(entity.getCategory())
+                .indicator(catalog.indicatorOf(entity.getGriCode(), entity.getIndicator()))
+                .category(catalog.categoryOf(entity.getGriCode(), entity.getCategory()))
                 .content(entity.getContent())
+                .contentSize(entity.getContentSize())
                 .memberId(entity.getMemberId())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
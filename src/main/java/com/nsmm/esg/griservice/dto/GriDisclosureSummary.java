@@ -0,0 +1,27 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 공시 항목 목록용 프로젝션 DTO
+ * - fields= 로 선택한 필드만 채워지며, 선택하지 않은 필드는 응답에서 생략
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GriDisclosureSummary {
+    private final Long id;
+    private final String griCode;
+    private final String indicator;
+    private final String category;
+    private final String content;
+    private final Integer contentSize; // content 원문 UTF-8 크기 (bytes)
+    private final String contentHash; // content 원문 SHA-256 (hex)
+    private final Long memberId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
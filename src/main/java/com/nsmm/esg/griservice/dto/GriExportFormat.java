@@ -0,0 +1,29 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GRI 공시 항목 내보내기 형식
+ * - NDJSON: 한 줄에 JSON 객체 하나 (application/x-ndjson)
+ * - CSV: RFC 4180 형식 (text/csv)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GriExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static GriExportFormat from(String value) {
+        for (GriExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidGriRequestException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * gri_disclosure 파티션별 항목 통계 응답 DTO (관리자용)
+ * - partitions: 파티션별 집계 (파티셔닝하지 않은 테이블이면 name 이 null 인 항목 하나)
+ * - 사용자 항목은 member_id 해시로 한 파티션에만 있으므로 파티션별 사용자 수의 합이 전체 사용자 수
+ * - elapsedMs: 파티션 병렬 스캔 전체 소요 시간
+ */
+@Getter
+@Builder
+public class GriPartitionStatsResponse {
+    private final List<Partition> partitions;
+    private final long rowCount;
+    private final long memberCount;
+    private final long completedCount;
+    private final long contentBytes;
+    private final long elapsedMs;
+
+    @Getter
+    @Builder
+    public static class Partition {
+        private final String name;
+        private final long rowCount;
+        private final long memberCount;
+        private final long completedCount;
+        private final long contentBytes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * GRI 진행률 세부 집계 DTO
+ * - key: GRI 시리즈(예: "401") 또는 카테고리(예: "고용")
+ * - completedCount: 내용이 입력된 항목 수
+ * - incompleteCount: 등록되었으나 내용이 비어있는 항목 수
+ */
+@Getter
+@Builder
+public class GriProgressBreakdown {
+    private final String key;
+    private final int completedCount;
+    private final int incompleteCount;
+}
@@ -3,6 +3,8 @@ package com.nsmm.esg.griservice.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class GriProgressResponse {
@@ -10,4 +12,6 @@ public class GriProgressResponse {
     private final int completedCount;
     private final int incompleteCount;
     private final int completedRate;
-}
\ No newline at end of file
+    private final List<GriProgressBreakdown> series;     // GRI 시리즈별 집계
+    private final List<GriProgressBreakdown> categories; // 카테고리별 집계
+}
@@ -0,0 +1,41 @@
+package com.nsmm.esg.griservice.dto;
+
+import com.nsmm.esg.griservice.repository.GriRevisionMetadata;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GRI 공시 항목 이력 목록 응답 DTO
+ * - items: 최신 버전부터 내림차순 (content 본문 제외)
+ * - nextBeforeVersion: 다음 페이지 요청 시 beforeVersion 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class GriRevisionPageResponse {
+    private final List<Item> items;
+    private final Long nextBeforeVersion;
+    private final boolean hasNext;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private final Long version;
+        private final String type;        // SNAPSHOT / DELTA
+        private final Integer contentSize;
+        private final String contentHash;
+        private final LocalDateTime createdAt;
+
+        public static Item from(GriRevisionMetadata metadata) {
+            return Item.builder()
+                    .version(metadata.getVersion())
+                    .type(metadata.getType().name())
+                    .contentSize(metadata.getContentSize())
+                    .contentHash(metadata.getContentHash())
+                    .createdAt(metadata.getCreatedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 공시 항목 특정 버전 content 응답 DTO
+ */
+@Getter
+@Builder
+public class GriRevisionResponse {
+    private final Long disclosureId;
+    private final Long version;
+    private final String content;
+    private final Integer contentSize;
+    private final String contentHash;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GRI 공시 항목 전문 검색 응답 DTO
+ * - totalHits: 전체 일치 항목 수
+ * - items: 관련도 순 상위 항목 (content 본문 대신 일치 부분 하이라이트 조각만 포함)
+ */
+@Getter
+@Builder
+public class GriSearchResponse {
+    private final String query;
+    private final long totalHits;
+    private final List<Hit> items;
+
+    @Getter
+    @Builder
+    public static class Hit {
+        private final Long id;
+        private final Long memberId;
+        private final String griCode;
+        private final String indicator;
+        private final String category;
+        private final float score;
+        private final List<String> highlights; // 일치 부분을 <em>으로 감싼 content 조각 (HTML 이스케이프됨)
+    }
+}
@@ -0,0 +1,17 @@
+package com.nsmm.esg.griservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * content 부분 편집 DTO
+ * - offset 위치부터 deleteCount 글자를 지우고 insert 문자열을 삽입
+ * - offset은 직전 편집까지 적용된 content 기준 (UTF-16 문자 단위, 0부터 시작)
+ */
+@Getter
+@Builder
+public class GriTextEdit {
+    private final int offset;
+    private final int deleteCount;
+    private final String insert;
+}
@@ -0,0 +1,10 @@
+package com.nsmm.esg.griservice.entity;
+
+/**
+ * GRI 공시 항목 변경 이벤트 유형
+ */
+public enum GriChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
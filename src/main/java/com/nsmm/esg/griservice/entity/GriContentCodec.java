@@ -0,0 +1,135 @@
+package com.nsmm.esg.griservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * GRI 공시 content 저장 형식 변환 (content_blob 컬럼)
+ *
+ * - 첫 바이트가 형식: 0 = UTF-8 원문, 1 = Deflate 압축(raw, 헤더 없음)
+ * - UTF-8 크기가 COMPRESSION_THRESHOLD 이상이고 압축 결과가 더 작을 때만 압축
+ * - JPA(@Convert)와 JDBC 저장소가 같은 형식을 사용하도록 정적 메서드로도 제공
+ */
+@Converter
+public class GriContentCodec implements AttributeConverter<String, byte[]> {
+
+    // 압축 적용 최소 크기 (bytes), 작은 본문은 압축 이득보다 CPU 비용이 큼
+    static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final byte FORMAT_RAW = 0;
+    private static final byte FORMAT_DEFLATE = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return decode(stored);
+    }
+
+    public static byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length) {
+                return compressed;
+            }
+        }
+        byte[] encoded = new byte[raw.length + 1];
+        encoded[0] = FORMAT_RAW;
+        System.arraycopy(raw, 0, encoded, 1, raw.length);
+        return encoded;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return null;
+        }
+        return switch (stored[0]) {
+            case FORMAT_RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("알 수 없는 content 저장 형식: " + stored[0]);
+        };
+    }
+
+    /**
+     * content 원문의 UTF-8 크기 (bytes)
+     */
+    public static Integer sizeOf(String content) {
+        return content == null ? null : content.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * content 원문의 SHA-256 해시 (hex), 본문을 읽지 않고 변경 여부를 비교할 때 사용
+     */
+    public static String hashOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // [형식 1바이트][원문 크기 4바이트][압축 데이터]
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            out.write(FORMAT_DEFLATE);
+            out.write(raw.length >>> 24);
+            out.write(raw.length >>> 16);
+            out.write(raw.length >>> 8);
+            out.write(raw.length);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        int size = ((stored[1] & 0xff) << 24) | ((stored[2] & 0xff) << 16) | ((stored[3] & 0xff) << 8) | (stored[4] & 0xff);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, 5, stored.length - 5);
+            byte[] raw = new byte[size];
+            int read = 0;
+            while (read < size && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, size - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            return read == size ? raw : Arrays.copyOf(raw, read);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("content 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
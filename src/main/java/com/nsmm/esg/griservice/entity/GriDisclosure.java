@@ -2,22 +2,31 @@ package com.nsmm.esg.griservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// member_id 해시 파티셔닝 시 DB 의 PK 는 (id, member_id) (db/gri-disclosure-partitioning.sql), 엔티티 식별자는 id 그대로
 @Table(
         name = "gri_disclosure",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"memberId", "griCode"})
+        uniqueConstraints = @UniqueConstraint(name = GriDisclosure.UK_MEMBER_GRI_CODE, columnNames = {"memberId", "griCode"}),
+        // 진행률 집계 전용 커버링 인덱스 (content 본문을 읽지 않고 완료 코드 조회)
+        indexes = @Index(name = "idx_gri_disclosure_member_completed", columnList = "memberId, completed, griCode")
 )
 public class GriDisclosure {
 
+    // (memberId, griCode) 유니크 제약 이름 (등록 시 중복 위반을 DuplicateGriDisclosureException 으로 변환)
+    public static final String UK_MEMBER_GRI_CODE = "uk_gri_disclosure_member_gri_code";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,14 +37,31 @@ public class GriDisclosure {
     @Column(nullable = false, length = 10)
     private String griCode; // 예: "401-1", "305-3"
 
-    @Column(nullable = false)
-    private String indicator; // 지표명 (예: "신규채용자 수 및 이직자 현황")
+    @Column(nullable = true)
+    private String indicator; // 지표명 재정의 값 (카탈로그 지표명과 같으면 null로 저장)
 
     @Column(nullable = true)
-    private String category; // 예: "고용", "배출" 등
+    private String category; // 카테고리 재정의 값 (카탈로그 카테고리와 같으면 null로 저장)
+
+    // content 본문은 지연 로딩 (Hibernate 바이트코드 향상 필요, 두 컬럼은 처음 접근할 때 함께 조회)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
+    @Convert(converter = GriContentCodec.class)
+    @Column(name = "content_blob", columnDefinition = "LONGBLOB")
+    private String content; // 사용자가 입력하는 내용 (1KB 이상이면 압축 저장)
+
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String legacyContent; // 압축 저장 도입 이전 content (마이그레이션 후 null)
 
-    @Column(columnDefinition = "TEXT")
-    private String content; // 사용자가 입력하는 내용
+    private Integer contentSize; // content 원문 UTF-8 크기 (bytes)
+
+    @Column(length = 64)
+    private String contentHash; // content 원문 SHA-256 (hex), 변경 여부 비교용
+
+    @Column(nullable = false)
+    private boolean completed; // content 입력 완료 여부 (공백이 아닌 내용이 있으면 true)
 
     @CreationTimestamp
     @Column(updatable = false)
@@ -44,7 +70,49 @@ public class GriDisclosure {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version; // 낙관적 잠금 버전 (동시 수정 충돌 감지)
+
+    /**
+     * content 조회 (마이그레이션 전 행은 기존 TEXT 컬럼 값)
+     */
+    public String getContent() {
+        return content != null ? content : legacyContent;
+    }
+
     public void updateContent(String newContent) {
         this.content = newContent;
+        this.legacyContent = null;
+        this.completed = isFilled(newContent);
+        this.contentSize = GriContentCodec.sizeOf(newContent);
+        this.contentHash = GriContentCodec.hashOf(newContent);
+    }
+
+    /**
+     * 현재 content와 같은 내용인지 해시로 비교
+     */
+    public boolean hasSameContent(String otherContent) {
+        String hash = contentHash != null ? contentHash : GriContentCodec.hashOf(getContent());
+        return Objects.equals(hash, GriContentCodec.hashOf(otherContent));
+    }
+
+    /**
+     * 저장/수정 직전에 completed 플래그와 content 크기/해시를 content 기준으로 동기화
+     * - Builder로 생성된 엔티티도 별도 처리 없이 올바른 값으로 저장됨
+     */
+    @PrePersist
+    @PreUpdate
+    private void syncCompleted() {
+        this.completed = isFilled(getContent());
+        if (content != null || legacyContent == null) {
+            this.contentSize = GriContentCodec.sizeOf(content);
+            this.contentHash = GriContentCodec.hashOf(content);
+        }
+    }
+
+    public static boolean isFilled(String content) {
+        return content != null && !content.trim().isEmpty();
     }
 }
@@ -0,0 +1,77 @@
+package com.nsmm.esg.griservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 공시 항목 content 이력 (추가 전용)
+ *
+ * - 항목 버전(version)마다 한 행, 항목 삭제 후에도 감사용으로 유지 (외래 키 없음)
+ * - DELTA: 직전 버전 content 에서 앞 prefixLength 자와 뒤 suffixLength 자를 유지하고
+ *   가운데를 payload 로 교체하면 이 버전의 content 가 됨
+ * - SNAPSHOT: payload 가 이 버전의 content 전체 (재구성 시 시작점)
+ * - payload 는 GriContentCodec 형식으로 저장 (1KB 이상이면 압축)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "gri_disclosure_revision",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gri_revision_disclosure_version", columnNames = {"disclosureId", "version"}),
+        indexes = @Index(name = "idx_gri_revision_member_disclosure", columnList = "memberId, disclosureId")
+)
+public class GriDisclosureRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long disclosureId; // gri_disclosure.id
+
+    @Column(nullable = false)
+    private Long memberId; // 항목 소유자 (조회 권한 확인용)
+
+    @Column(nullable = false)
+    private Long version; // 이 이력이 나타내는 항목 버전
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private GriRevisionType type;
+
+    @Column(nullable = false)
+    private int prefixLength; // DELTA: 직전 버전에서 유지하는 앞부분 길이 (char)
+
+    @Column(nullable = false)
+    private int suffixLength; // DELTA: 직전 버전에서 유지하는 뒷부분 길이 (char)
+
+    @Convert(converter = GriContentCodec.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String payload; // SNAPSHOT: content 전체, DELTA: 교체 문자열
+
+    private Integer contentSize; // 이 버전 content 원문 UTF-8 크기 (bytes)
+
+    @Column(length = 64)
+    private String contentHash; // 이 버전 content 원문 SHA-256 (재구성 결과 검증용)
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 이 이력을 직전 버전 content 에 적용하여 이 버전의 content 생성
+     */
+    public String applyTo(String previous) {
+        if (type == GriRevisionType.SNAPSHOT) {
+            return payload;
+        }
+        String base = previous == null ? "" : previous;
+        String middle = payload == null ? "" : payload;
+        return base.substring(0, prefixLength) + middle + base.substring(base.length() - suffixLength);
+    }
+}
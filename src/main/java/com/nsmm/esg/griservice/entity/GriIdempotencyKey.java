@@ -0,0 +1,62 @@
+package com.nsmm.esg.griservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 항목 등록 요청의 멱등성 키 (Idempotency-Key 헤더)
+ *
+ * - 등록과 같은 트랜잭션에서 저장되므로 등록이 롤백되면 키도 남지 않음 (재시도 시 다시 처리)
+ * - 같은 키로 다시 요청하면 저장된 최초 응답을 그대로 반환
+ * - requestHash: 같은 키를 다른 요청 내용에 재사용했는지 확인하기 위한 요청 본문 해시
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "gri_idempotency_key",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gri_idempotency_member_key", columnNames = {"memberId", "idempotencyKey"}),
+        indexes = @Index(name = "idx_gri_idempotency_expires_at", columnList = "expiresAt")
+)
+public class GriIdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody; // 최초 응답 JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 만료된 키를 새 요청용으로 다시 사용
+     */
+    public void reclaim(String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        this.requestHash = requestHash;
+        this.responseBody = null;
+        this.createdAt = now;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.nsmm.esg.griservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 공시 항목 변경 이벤트 (트랜잭셔널 아웃박스)
+ *
+ * - 등록/수정/삭제와 같은 트랜잭션에서 추가되므로 변경이 커밋되면 이벤트도 반드시 남음
+ * - id 는 채번 순서일 뿐 커밋 순서가 아니므로 피드 기준으로 쓰지 않음
+ * - feedSeq: 릴레이가 커밋된 이벤트에 확인한 순서대로 부여하는 빈틈 없는 시퀀스 (변경 피드 since 기준, 미부여면 null)
+ * - content 본문은 담지 않고 버전/해시만 전달 (소비자는 해시가 다를 때만 본문 재조회)
+ * - publishedAt: 릴레이가 브로커로 발행한 시각 (미발행이면 null)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "gri_outbox_event",
+        indexes = {
+                @Index(name = "uk_gri_outbox_feed_seq", columnList = "feedSeq", unique = true),
+                @Index(name = "idx_gri_outbox_member_feed_seq", columnList = "memberId, feedSeq"),
+                @Index(name = "idx_gri_outbox_published", columnList = "publishedAt, feedSeq")
+        }
+)
+public class GriOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private GriChangeType eventType;
+
+    @Column(nullable = false)
+    private Long disclosureId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 10)
+    private String griCode;
+
+    private Long version; // 변경 후 항목 버전 (삭제 시 삭제 직전 버전)
+
+    @Column(length = 64)
+    private String contentHash; // 변경 후 content SHA-256 (삭제 시 null)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private Long feedSeq;
+
+    private LocalDateTime publishedAt;
+
+    /**
+     * 피드 시퀀스 부여 (릴레이 전용)
+     */
+    public void assignFeedSeq(long feedSeq) {
+        this.feedSeq = feedSeq;
+    }
+}
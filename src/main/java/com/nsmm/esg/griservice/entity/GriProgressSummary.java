@@ -0,0 +1,59 @@
+package com.nsmm.esg.griservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 GRI 진행률 요약 (진행률 조회 시 PK 조회 한 번으로 처리)
+ *
+ * - GriDisclosureService 의 등록/수정/삭제와 같은 트랜잭션에서 갱신
+ * - 시리즈/카테고리별 완료 수는 "키:완료 수" 쉼표 목록으로 저장 (완료 0인 키는 생략)
+ * - 누락/불일치는 GriProgressSummaryReconciler 가 주기적으로 보정
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "gri_progress_summary")
+public class GriProgressSummary {
+
+    @Id
+    private Long memberId; // 사용자 식별
+
+    @Column(nullable = false)
+    private int completed; // 완료 항목 수
+
+    @Column(nullable = false, length = 1000)
+    private String seriesCounts; // 예: "2:10,305:3,401:1"
+
+    @Column(nullable = false, length = 2000)
+    private String categoryCounts; // 예: "일반 공개:10,배출:3,고용:1"
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public void update(int completed, String seriesCounts, String categoryCounts) {
+        this.completed = completed;
+        this.seriesCounts = seriesCounts;
+        this.categoryCounts = categoryCounts;
+    }
+
+    /**
+     * 저장된 집계가 주어진 값과 같은지 확인 (재집계 결과 비교용)
+     */
+    public boolean matches(int completed, String seriesCounts, String categoryCounts) {
+        return this.completed == completed
+                && this.seriesCounts.equals(seriesCounts)
+                && this.categoryCounts.equals(categoryCounts);
+    }
+}
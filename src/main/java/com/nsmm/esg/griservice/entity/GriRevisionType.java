@@ -0,0 +1,11 @@
+package com.nsmm.esg.griservice.entity;
+
+/**
+ * GRI 공시 항목 이력 저장 형식
+ * - SNAPSHOT: 해당 버전의 content 전체
+ * - DELTA: 직전 버전 content 대비 변경 구간 (앞/뒤 공통 길이 + 가운데 교체 문자열)
+ */
+public enum GriRevisionType {
+    SNAPSHOT,
+    DELTA
+}
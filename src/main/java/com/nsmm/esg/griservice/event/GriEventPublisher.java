@@ -0,0 +1,12 @@
+package com.nsmm.esg.griservice.event;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+
+/**
+ * GRI 변경 이벤트 발행 (아웃박스 릴레이 → 메시지 브로커)
+ * - 발행 실패 시 예외를 던지면 릴레이가 같은 이벤트부터 다시 발행 (최소 한 번 전달)
+ */
+public interface GriEventPublisher {
+
+    void publish(GriChangeEvent event);
+}
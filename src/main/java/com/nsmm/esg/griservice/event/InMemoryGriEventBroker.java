@@ -0,0 +1,36 @@
+package com.nsmm.esg.griservice.event;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 이벤트 브로커 (외부 메시지 브로커 연동 전 대체 구현, 테스트용)
+ * - 구독자에게 발행 순서대로 동기 전달
+ */
+@Slf4j
+@Component
+public class InMemoryGriEventBroker implements GriEventPublisher {
+
+    private final List<Consumer<GriChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<GriChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<GriChangeEvent> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(GriChangeEvent event) {
+        for (Consumer<GriChangeEvent> subscriber : subscribers) {
+            subscriber.accept(event);
+        }
+        log.debug("[GRI 변경 이벤트] sequence={} type={} disclosureId={}", event.getSequence(), event.getEventType(), event.getDisclosureId());
+    }
+}
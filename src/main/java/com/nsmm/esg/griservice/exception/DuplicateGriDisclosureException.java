@@ -16,4 +16,17 @@ public class DuplicateGriDisclosureException extends GriException {
     public DuplicateGriDisclosureException(String message) {
         super(message, HttpStatus.CONFLICT, "DUPLICATE_GRI_DISCLOSURE");
     }
+
+    private DuplicateGriDisclosureException(String message, boolean expected) {
+        super(message, HttpStatus.CONFLICT, "DUPLICATE_GRI_DISCLOSURE", expected);
+    }
+
+    /**
+     * 스택 트레이스 없는 예외 생성 (이미 등록된 코드 재등록은 클라이언트 흐름상 흔한 결과)
+     *
+     * @param message 예외에 대한 설명 메시지
+     */
+    public static DuplicateGriDisclosureException expected(String message) {
+        return new DuplicateGriDisclosureException(message, true);
+    }
 }
\ No newline at end of file
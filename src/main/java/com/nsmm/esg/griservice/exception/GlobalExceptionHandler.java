@@ -1,7 +1,11 @@
 package com.nsmm.esg.griservice.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.nsmm.esg.griservice.dto.ErrorResponse;
@@ -20,21 +24,65 @@ public class GlobalExceptionHandler {
     /**
      * GriException 발생 시 처리 메서드
      *
-     * - 로그에 경고 메시지 출력
-     * - ErrorResponse 객체를 생성하여 상태 코드, 에러 코드, 메시지를 응답 본문에 포함
+     * - 로그에 경고 메시지 출력 (없는 항목 조회 등 예상된 결과는 debug)
+     * - ErrorResponse 객체를 생성하여 상태 코드, 에러 코드, 메시지, 요청 path를 응답 본문에 포함
      * - 클라이언트에게 예외 상황을 일관된 형식으로 전달
      *
      * @param ex 발생한 GriException 예외 객체
+     * @param request 현재 요청 (path 는 핸들러 매핑 시 이미 만들어진 문자열을 그대로 사용)
      * @return 상태 코드와 ErrorResponse 본문을 포함한 ResponseEntity
      */
     @ExceptionHandler(GriException.class)
-    public ResponseEntity<ErrorResponse> handleGriException(GriException ex) {
-        log.warn("[GRI 예외] {}", ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleGriException(GriException ex, HttpServletRequest request) {
+        if (ex.isExpected()) {
+            log.debug("[GRI 예외] {}", ex.getMessage());
+        } else {
+            log.warn("[GRI 예외] {}", ex.getMessage());
+        }
         ErrorResponse error = ErrorResponse.of(
             ex.getErrorCode(),
             ex.getMessage(),
-            "" // 요청 path가 없는 경우 빈 문자열로 처리
+            request.getRequestURI()
         );
         return ResponseEntity.status(ex.getStatus()).body(error);
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 요청 속도 제한 초과 처리 메서드
+     *
+     * - 429 / GRI_RATE_LIMIT_EXCEEDED 응답에 Retry-After(초) 헤더 포함
+     * - 거절이 잦을 수 있으므로 경고 로그를 남기지 않음 (gri.ratelimit.rejected 메트릭으로 확인)
+     *
+     * @param ex 발생한 요청 속도 제한 예외 객체
+     * @param request 현재 요청
+     * @return 429 상태 코드와 Retry-After 헤더, ErrorResponse 본문을 포함한 ResponseEntity
+     */
+    @ExceptionHandler(GriRateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(GriRateLimitExceededException ex, HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.of(ex.getErrorCode(), ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * 낙관적 잠금 충돌(@Version) 처리 메서드
+     *
+     * - 커밋 시점에 다른 요청이 먼저 같은 항목을 수정한 것이 감지된 경우
+     * - GriVersionConflictException과 동일한 409 / GRI_VERSION_CONFLICT 응답 반환
+     *
+     * @param ex 발생한 낙관적 잠금 예외 객체
+     * @param request 현재 요청
+     * @return 409 상태 코드와 ErrorResponse 본문을 포함한 ResponseEntity
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("[GRI 버전 충돌] {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.of(
+            "GRI_VERSION_CONFLICT",
+            "다른 사용자가 먼저 수정한 GRI 항목입니다. 최신 내용을 다시 조회해 주세요.",
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+}
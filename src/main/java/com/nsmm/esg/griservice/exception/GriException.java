@@ -14,17 +14,34 @@ import org.springframework.http.HttpStatus;
  * - status: HTTP 상태 코드 (예: 404 NOT_FOUND, 400 BAD_REQUEST 등)
  * - errorCode: 서비스 내부에서 정의하는 고유한 에러 식별 코드 (예: GRI_NOT_FOUND)
  *
+ * - expected: 클라이언트 흐름상 정상적으로 발생하는 결과(없는 항목 조회, 권한 없음 등) 여부
+ *   (true 이면 스택 트레이스를 수집하지 않으며 경고 로그를 남기지 않음)
+ *
  * 📌 사용 예:
  * throw new GriNotFoundException("GRI 데이터를 찾을 수 없습니다");
+ * throw GriNotFoundException.DISCLOSURE; // 미리 생성된 스택 트레이스 없는 예외
  */
 @Getter
 public abstract class GriException extends RuntimeException {
     private final HttpStatus status;
     private final String errorCode;
+    private final boolean expected;
 
     protected GriException(String message, HttpStatus status, String errorCode) {
         super(message);
         this.status = status;
         this.errorCode = errorCode;
+        this.expected = false;
+    }
+
+    /**
+     * 스택 트레이스 없는 예외 생성 (예상된 결과용)
+     * - 스택 수집/suppressed 기록을 하지 않으므로 미리 생성하여 여러 스레드에서 재사용 가능
+     */
+    protected GriException(String message, HttpStatus status, String errorCode, boolean expected) {
+        super(message, null, !expected, !expected);
+        this.status = status;
+        this.errorCode = errorCode;
+        this.expected = expected;
     }
 }
\ No newline at end of file
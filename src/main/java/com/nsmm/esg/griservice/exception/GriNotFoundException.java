@@ -7,9 +7,24 @@ import org.springframework.http.HttpStatus;
  * - 주로 GRI 식별자(ID)로 조회한 결과가 존재하지 않을 경우 사용됩니다.
  * - HTTP 상태 코드: 404 Not Found
  * - 에러 코드: GRI_NOT_FOUND
+ * - 아직 작성하지 않은 코드 조회처럼 흔한 경우는 미리 생성된 스택 트레이스 없는 예외(DISCLOSURE) 사용
  */
 public class GriNotFoundException extends GriException {
+
+    public static final GriNotFoundException DISCLOSURE = new GriNotFoundException("해당 코드의 GRI 항목이 없습니다.", true);
+
     public GriNotFoundException(String message) {
         super(message, HttpStatus.NOT_FOUND, "GRI_NOT_FOUND");
     }
+
+    private GriNotFoundException(String message, boolean expected) {
+        super(message, HttpStatus.NOT_FOUND, "GRI_NOT_FOUND", expected);
+    }
+
+    /**
+     * 스택 트레이스 없는 예외 생성 (메시지에 식별자가 포함되어 미리 생성할 수 없는 경우)
+     */
+    public static GriNotFoundException expected(String message) {
+        return new GriNotFoundException(message, true);
+    }
 }
\ No newline at end of file
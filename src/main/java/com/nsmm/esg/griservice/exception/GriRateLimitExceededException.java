@@ -0,0 +1,27 @@
+package com.nsmm.esg.griservice.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 사용자별 요청 속도 제한을 넘었을 때 발생하는 예외 클래스입니다.
+ * 예: 여러 대시보드 탭에서 같은 사용자의 조회 요청이 한꺼번에 몰리는 경우에 사용됩니다.
+ * HttpStatus.TOO_MANY_REQUESTS(429) 상태 코드와 함께 "GRI_RATE_LIMIT_EXCEEDED" 에러 코드를 반환하며,
+ * 다시 요청할 수 있을 때까지의 시간(초)을 Retry-After 헤더로 전달합니다.
+ */
+@Getter
+public class GriRateLimitExceededException extends GriException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 요청 속도 제한 초과에 대해 예외를 생성합니다.
+     *
+     * @param retryAfterSeconds 다시 요청할 수 있을 때까지의 시간 (초)
+     */
+    public GriRateLimitExceededException(long retryAfterSeconds) {
+        super("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.",
+                HttpStatus.TOO_MANY_REQUESTS, "GRI_RATE_LIMIT_EXCEEDED");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
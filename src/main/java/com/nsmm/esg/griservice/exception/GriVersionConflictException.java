@@ -0,0 +1,19 @@
+package com.nsmm.esg.griservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * GRI 공시 항목을 수정하려 할 때, 요청한 버전이 현재 버전과 다른 경우 발생하는 예외 클래스입니다.
+ * 예: 다른 사용자가 먼저 같은 항목을 수정하여 클라이언트가 가진 내용이 오래된 경우에 사용됩니다.
+ * HttpStatus.CONFLICT(409) 상태 코드와 함께 "GRI_VERSION_CONFLICT" 에러 코드를 반환합니다.
+ */
+public class GriVersionConflictException extends GriException {
+    /**
+     * 버전 충돌에 대해 예외를 생성합니다.
+     *
+     * @param message 예외에 대한 설명 메시지
+     */
+    public GriVersionConflictException(String message) {
+        super(message, HttpStatus.CONFLICT, "GRI_VERSION_CONFLICT");
+    }
+}
@@ -0,0 +1,19 @@
+package com.nsmm.esg.griservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 이미 사용한 Idempotency-Key 를 다른 요청 내용에 다시 사용했을 때 발생하는 예외 클래스입니다.
+ * 예: 재시도가 아닌 새 요청에 이전 요청의 키를 그대로 보낸 경우에 사용됩니다.
+ * HttpStatus.UNPROCESSABLE_ENTITY(422) 상태 코드와 함께 "IDEMPOTENCY_KEY_REUSED" 에러 코드를 반환합니다.
+ */
+public class IdempotencyKeyReusedException extends GriException {
+    /**
+     * 멱등성 키 재사용에 대해 예외를 생성합니다.
+     *
+     * @param message 예외에 대한 설명 메시지
+     */
+    public IdempotencyKeyReusedException(String message) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED");
+    }
+}
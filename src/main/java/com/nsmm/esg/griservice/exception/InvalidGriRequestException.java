@@ -0,0 +1,19 @@
+package com.nsmm.esg.griservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * GRI 요청 값이 유효하지 않을 때 발생하는 예외 클래스입니다.
+ * 예: 일괄 등록 요청이 비어있거나, 허용 건수를 초과하거나, 필수 값이 누락된 경우에 사용됩니다.
+ * HttpStatus.BAD_REQUEST(400) 상태 코드와 함께 "INVALID_GRI_REQUEST" 에러 코드를 반환합니다.
+ */
+public class InvalidGriRequestException extends GriException {
+    /**
+     * 유효하지 않은 요청에 대해 예외를 생성합니다.
+     *
+     * @param message 예외에 대한 설명 메시지
+     */
+    public InvalidGriRequestException(String message) {
+        super(message, HttpStatus.BAD_REQUEST, "INVALID_GRI_REQUEST");
+    }
+}
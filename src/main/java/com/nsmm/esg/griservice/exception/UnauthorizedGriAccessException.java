@@ -10,6 +10,13 @@ import org.springframework.http.HttpStatus;
  * HttpStatus.FORBIDDEN (403)을 반환하며, 에러 코드로 "UNAUTHORIZED_GRI_ACCESS"를 제공합니다.
  */
 public class UnauthorizedGriAccessException extends GriException {
+
+    /**
+     * 미리 생성된 스택 트레이스 없는 예외 (없는 항목/남의 항목 수정·삭제 시도)
+     */
+    public static final UnauthorizedGriAccessException UPDATE = new UnauthorizedGriAccessException("수정 권한이 없거나 GRI 항목이 없습니다.", true);
+    public static final UnauthorizedGriAccessException DELETE = new UnauthorizedGriAccessException("삭제 권한이 없거나 GRI 항목이 없습니다.", true);
+
     /**
      * 접근 권한이 없는 경우 예외를 생성합니다.
      * @param message 예외 메시지 (주로 사용자에게 보여질 수 있는 설명)
@@ -17,4 +24,8 @@ public class UnauthorizedGriAccessException extends GriException {
     public UnauthorizedGriAccessException(String message) {
         super(message, HttpStatus.FORBIDDEN, "UNAUTHORIZED_GRI_ACCESS");
     }
+
+    private UnauthorizedGriAccessException(String message, boolean expected) {
+        super(message, HttpStatus.FORBIDDEN, "UNAUTHORIZED_GRI_ACCESS", expected);
+    }
 }
\ No newline at end of file
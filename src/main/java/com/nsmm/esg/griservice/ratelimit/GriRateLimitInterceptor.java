@@ -0,0 +1,32 @@
+package com.nsmm.esg.griservice.ratelimit;
+
+import com.nsmm.esg.griservice.controller.MemberIdHeader;
+import com.nsmm.esg.griservice.exception.GriRateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공시 항목/진행률 API 앞단의 사용자별 요청 속도 제한
+ * - 한도를 넘으면 컨트롤러를 실행하지 않고 429 + Retry-After 응답 (GlobalExceptionHandler)
+ */
+@Component
+@RequiredArgsConstructor
+public class GriRateLimitInterceptor implements HandlerInterceptor {
+
+    private final GriRateLimiter griRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long waitNanos = griRateLimiter.tryAcquire(MemberIdHeader.extract(request));
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new GriRateLimitExceededException(retryAfterSeconds);
+        }
+        return true;
+    }
+}
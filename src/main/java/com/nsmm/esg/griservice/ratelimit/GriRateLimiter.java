@@ -0,0 +1,60 @@
+package com.nsmm.esg.griservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자(memberId)별 요청 속도 제한
+ *
+ * - 사용자마다 토큰 버킷 하나 (requests-per-second 로 채워지고 burst 까지 누적)
+ * - 한동안 요청이 없는 사용자의 버킷은 제거 (다시 요청하면 가득 찬 버킷으로 시작)
+ * - 거절 수는 gri.ratelimit.rejected 카운터로 노출
+ */
+@Component
+public class GriRateLimiter {
+
+    private final boolean enabled;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final Cache<Long, GriTokenBucket> buckets;
+    private final Counter rejected;
+
+    public GriRateLimiter(MeterRegistry meterRegistry,
+                          @Value("${gri.ratelimit.enabled:true}") boolean enabled,
+                          @Value("${gri.ratelimit.requests-per-second:20}") double permitsPerSecond,
+                          @Value("${gri.ratelimit.burst:40}") int burst) {
+        this.enabled = enabled;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.rejected = Counter.builder("gri.ratelimit.rejected")
+                .description("사용자별 요청 속도 제한으로 거절(429)한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나 허용 여부 확인
+     *
+     * @return 0이면 허용, 양수이면 다시 시도할 수 있을 때까지의 시간 (nanos)
+     */
+    public long tryAcquire(Long memberId) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long wait = buckets.get(memberId, id -> new GriTokenBucket(permitsPerSecond, burst, now)).tryAcquire(now);
+        if (wait > 0) {
+            rejected.increment();
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,41 @@
+package com.nsmm.esg.griservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA: 다음 토큰 도착 예정 시각 하나만 CAS 로 갱신)
+ *
+ * - 초당 permitsPerSecond 개씩 토큰이 채워지고 최대 burst 개까지 모아서 사용 가능
+ * - 상태가 long 하나이므로 요청 스레드 간 경합 시에도 잠금 없이 재시도만 발생
+ */
+final class GriTokenBucket {
+
+    private final long intervalNanos;    // 토큰 하나가 채워지는 간격
+    private final long burstNanos;       // 한 번에 모아 둘 수 있는 토큰 시간 (interval * burst)
+    private final AtomicLong theoreticalArrival; // 버킷이 가득 찬 상태로 돌아가는 시각 (nanoTime 기준)
+
+    GriTokenBucket(double permitsPerSecond, int burst, long now) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @return 0이면 허용, 양수이면 토큰이 생길 때까지 기다려야 하는 시간 (nanos)
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
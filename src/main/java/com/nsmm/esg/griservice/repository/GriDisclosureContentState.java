@@ -0,0 +1,42 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 수정 직전 항목 상태 (JDBC 조회 결과)
+ *
+ * - current: content/버전을 포함한 현재 항목 (GRI 카탈로그 지표명/카테고리 반영)
+ * - contentHash: 현재 content 해시 (압축 저장 마이그레이션 전 행은 content 로 계산)
+ * - 일괄 수정에서 DELTA 이력의 직전 content 와 같은 내용 재저장 판단에 사용
+ */
+@Getter
+@Builder
+public class GriDisclosureContentState {
+    private final GriDisclosureResponse current;
+    private final String contentHash;
+    private final boolean completed;
+
+    public Long getId() {
+        return current.getId();
+    }
+
+    public Long getVersion() {
+        return current.getVersion();
+    }
+
+    public String getContent() {
+        return current.getContent();
+    }
+
+    /**
+     * 현재 content와 같은 내용인지 해시로 비교
+     */
+    public boolean hasSameContent(String otherContent) {
+        return Objects.equals(contentHash, GriContentCodec.hashOf(otherContent));
+    }
+}
@@ -0,0 +1,323 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.dto.GriDisclosureRequest;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriPartitionStatsResponse;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * JPA를 거치지 않는 GRI 공시 항목 JDBC 전용 저장소
+ *
+ * - IDENTITY 전략에서는 Hibernate insert 배치가 비활성화되므로
+ *   대량 등록/수정은 JdbcTemplate batchUpdate 로 처리
+ * - MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 지정해야
+ *   배치가 multi-row INSERT 한 번으로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class GriDisclosureJdbcRepository {
+
+    private static final String STREAM_COLUMNS =
+            "id, member_id, gri_code, indicator, category, content_blob, content, content_size, created_at, updated_at, version";
+
+    private static final String STATE_COLUMNS = STREAM_COLUMNS + ", content_hash, completed";
+
+    // PARTITION 절에 넣는 파티션 이름 검증용 (식별자는 바인딩할 수 없으므로 SQL 에 직접 포함)
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 GRI 코드 목록에 해당하는 기존 항목 ID를 한 번의 IN 쿼리로 조회
+     *
+     * @return griCode → id
+     */
+    public Map<String, Long> findIdsByGriCodes(Long memberId, Collection<String> griCodes) {
+        Map<String, Long> ids = new LinkedHashMap<>();
+        if (griCodes.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("griCodes", griCodes);
+        jdbcTemplate.query(
+                "SELECT id, gri_code FROM gri_disclosure WHERE member_id = :memberId AND gri_code IN (:griCodes)",
+                params,
+                rs -> {
+                    ids.put(rs.getString("gri_code"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    /**
+     * 사용자의 GRI 코드 목록에 해당하는 기존 항목 상태를 한 번의 IN 쿼리로 조회 (일괄 수정용)
+     *
+     * @return griCode → 항목 상태
+     */
+    public Map<String, GriDisclosureContentState> findContentStatesByGriCodes(Long memberId, Collection<String> griCodes) {
+        Map<String, GriDisclosureContentState> states = new LinkedHashMap<>();
+        if (griCodes.isEmpty()) {
+            return states;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("griCodes", griCodes);
+        jdbcTemplate.query(
+                "SELECT " + STATE_COLUMNS + " FROM gri_disclosure WHERE member_id = :memberId AND gri_code IN (:griCodes)",
+                params,
+                rs -> {
+                    GriDisclosureContentState state = toContentState(rs);
+                    states.put(state.getCurrent().getGriCode(), state);
+                });
+        return states;
+    }
+
+    /**
+     * 신규 항목 일괄 등록 (JDBC 배치)
+     */
+    public void batchInsert(Long memberId, List<GriDisclosureRequest> requests, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        MapSqlParameterSource[] batch = requests.stream()
+                .map(request -> new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("griCode", request.getGriCode())
+                        .addValue("indicator", request.indicatorOverride())
+                        .addValue("category", request.categoryOverride())
+                        .addValue("contentBlob", GriContentCodec.encode(request.getContent()))
+                        .addValue("contentSize", GriContentCodec.sizeOf(request.getContent()))
+                        .addValue("contentHash", GriContentCodec.hashOf(request.getContent()))
+                        .addValue("completed", GriDisclosure.isFilled(request.getContent()))
+                        .addValue("now", timestamp))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO gri_disclosure (member_id, gri_code, indicator, category, content_blob, content_size, content_hash,
+                                            completed, created_at, updated_at, version)
+                VALUES (:memberId, :griCode, :indicator, :category, :contentBlob, :contentSize, :contentHash,
+                        :completed, :now, :now, 0)
+                """, batch);
+    }
+
+    /**
+     * 기존 항목 content 일괄 수정 (JDBC 배치)
+     * - 조회한 버전과 같을 때만 수정 (조회 이후 다른 요청이 수정했으면 해당 행은 0건)
+     * - content 해시가 같은 항목은 수정하지 않음 (버전/수정 시각 유지)
+     *
+     * @param previous 수정 직전 항목 상태 (버전 조건)
+     * @param contents id → content
+     * @return 항목별 수정 행 수 (previous 순서)
+     */
+    public int[] batchUpdateContent(Long memberId, List<GriDisclosureContentState> previous, Map<Long, String> contents,
+                                    LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        MapSqlParameterSource[] batch = previous.stream()
+                .map(state -> Map.entry(state, contents.get(state.getId())))
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey().getId())
+                        .addValue("version", entry.getKey().getVersion())
+                        .addValue("memberId", memberId)
+                        .addValue("contentBlob", GriContentCodec.encode(entry.getValue()))
+                        .addValue("contentSize", GriContentCodec.sizeOf(entry.getValue()))
+                        .addValue("contentHash", GriContentCodec.hashOf(entry.getValue()))
+                        .addValue("completed", GriDisclosure.isFilled(entry.getValue()))
+                        .addValue("now", timestamp))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate("""
+                UPDATE gri_disclosure
+                SET content_blob = :contentBlob, content = NULL, content_size = :contentSize, content_hash = :contentHash,
+                    completed = :completed, updated_at = :now, version = version + 1
+                WHERE id = :id AND member_id = :memberId AND version = :version AND NOT (content_hash <=> :contentHash)
+                """, batch);
+    }
+
+    /**
+     * 사용자 GRI 코드로 항목 조회 (content 포함, 쿼리 한 번)
+     */
+    public Optional<GriDisclosureResponse> findByMemberIdAndGriCode(Long memberId, String griCode) {
+        List<GriDisclosureResponse> rows = jdbcTemplate.query(
+                "SELECT " + STREAM_COLUMNS + " FROM gri_disclosure WHERE member_id = :memberId AND gri_code = :griCode",
+                new MapSqlParameterSource().addValue("memberId", memberId).addValue("griCode", griCode),
+                (rs, rowNum) -> toResponse(rs));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 사용자의 전체 항목 조회 (content 포함, griCode 오름차순, 쿼리 한 번)
+     */
+    public List<GriDisclosureResponse> findAllByMemberId(Long memberId) {
+        return jdbcTemplate.query(
+                "SELECT " + STREAM_COLUMNS + " FROM gri_disclosure WHERE member_id = :memberId ORDER BY gri_code",
+                new MapSqlParameterSource("memberId", memberId),
+                (rs, rowNum) -> toResponse(rs));
+    }
+
+    /**
+     * ID 목록으로 항목 조회 (content 포함, 쿼리 한 번, 검색 색인 동기화용)
+     */
+    public List<GriDisclosureResponse> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT " + STREAM_COLUMNS + " FROM gri_disclosure WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> toResponse(rs));
+    }
+
+    /**
+     * GRI 항목을 전방향 커서로 한 건씩 읽어 consumer에 전달
+     *
+     * - fetchSize=Integer.MIN_VALUE: MySQL 드라이버가 결과를 메모리에 모으지 않고 행 단위로 스트리밍
+     * - 전체 목록을 List로 만들지 않으므로 행 수/본문 크기와 무관하게 힙 사용량이 일정
+     * - 스트리밍 중에는 커넥션을 점유하므로 consumer는 DB 호출 없이 출력만 수행해야 함
+     *
+     * @param memberId 사용자 ID (null이면 전체 사용자)
+     */
+    public void streamAll(Long memberId, Consumer<GriDisclosureResponse> consumer) {
+        String sql = memberId == null
+                ? "SELECT " + STREAM_COLUMNS + " FROM gri_disclosure ORDER BY id"
+                : "SELECT " + STREAM_COLUMNS + " FROM gri_disclosure WHERE member_id = ? ORDER BY gri_code";
+        jdbcTemplate.getJdbcTemplate().query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            if (memberId != null) {
+                ps.setLong(1, memberId);
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(toResponse(rs));
+        });
+    }
+
+    /**
+     * gri_disclosure 파티션 이름 목록 (정의 순서, 파티셔닝하지 않은 테이블이면 빈 목록)
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.getJdbcTemplate().queryForList("""
+                SELECT partition_name FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = 'gri_disclosure' AND partition_name IS NOT NULL
+                ORDER BY partition_ordinal_position
+                """, String.class);
+    }
+
+    /**
+     * 파티션 하나의 항목 통계 집계 (content 미조회)
+     * - PARTITION 절로 해당 파티션만 스캔하므로 파티션별로 나누어 병렬 실행 가능
+     *
+     * @param partition 파티션 이름 (null이면 테이블 전체)
+     */
+    public GriPartitionStatsResponse.Partition aggregatePartition(String partition) {
+        if (partition != null && !PARTITION_NAME.matcher(partition).matches()) {
+            throw new IllegalArgumentException("잘못된 파티션 이름입니다: " + partition);
+        }
+        String from = partition == null ? "gri_disclosure" : "gri_disclosure PARTITION (`" + partition + "`)";
+        return jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) AS row_count, COUNT(DISTINCT member_id) AS member_count, "
+                        + "COALESCE(SUM(completed), 0) AS completed_count, COALESCE(SUM(content_size), 0) AS content_bytes "
+                        + "FROM " + from,
+                (rs, rowNum) -> GriPartitionStatsResponse.Partition.builder()
+                        .name(partition)
+                        .rowCount(rs.getLong("row_count"))
+                        .memberCount(rs.getLong("member_count"))
+                        .completedCount(rs.getLong("completed_count"))
+                        .contentBytes(rs.getLong("content_bytes"))
+                        .build());
+    }
+
+    /**
+     * 압축 저장 도입 이전 행(content TEXT)을 content_blob 으로 옮기는 마이그레이션 배치
+     * - id 오름차순으로 afterId 이후 최대 limit 건 처리
+     * - 그 사이 애플리케이션이 새로 저장한 행(content_blob 존재)은 건너뜀
+     *
+     * @return 이번 배치에서 확인한 마지막 id (남은 행이 없으면 null)
+     */
+    public Long migrateLegacyContent(long afterId, int limit) {
+        Map<Long, String> contents = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT id, content FROM gri_disclosure
+                        WHERE id > :afterId AND content_blob IS NULL AND content IS NOT NULL
+                        ORDER BY id LIMIT :limit
+                        """,
+                new MapSqlParameterSource().addValue("afterId", afterId).addValue("limit", limit),
+                rs -> {
+                    contents.put(rs.getLong("id"), rs.getString("content"));
+                });
+        if (contents.isEmpty()) {
+            return null;
+        }
+        MapSqlParameterSource[] batch = contents.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("contentBlob", GriContentCodec.encode(entry.getValue()))
+                        .addValue("contentSize", GriContentCodec.sizeOf(entry.getValue()))
+                        .addValue("contentHash", GriContentCodec.hashOf(entry.getValue()))
+                        .addValue("completed", GriDisclosure.isFilled(entry.getValue())))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                UPDATE gri_disclosure
+                SET content_blob = :contentBlob, content = NULL, content_size = :contentSize, content_hash = :contentHash,
+                    completed = :completed
+                WHERE id = :id AND content_blob IS NULL
+                """, batch);
+        Long lastId = null;
+        for (Long id : contents.keySet()) {
+            lastId = id;
+        }
+        return lastId;
+    }
+
+    private static String readContent(ResultSet rs) throws SQLException {
+        byte[] blob = rs.getBytes("content_blob");
+        return blob != null ? GriContentCodec.decode(blob) : rs.getString("content");
+    }
+
+    private static GriDisclosureContentState toContentState(ResultSet rs) throws SQLException {
+        GriDisclosureResponse current = toResponse(rs);
+        String contentHash = rs.getString("content_hash");
+        return GriDisclosureContentState.builder()
+                .current(current)
+                .contentHash(contentHash != null ? contentHash : GriContentCodec.hashOf(current.getContent()))
+                .completed(rs.getBoolean("completed"))
+                .build();
+    }
+
+    private static GriDisclosureResponse toResponse(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        String griCode = rs.getString("gri_code");
+        GriCatalog catalog = GriCatalog.getInstance();
+        String content = readContent(rs);
+        Integer contentSize = rs.getObject("content_size", Integer.class);
+        return GriDisclosureResponse.builder()
+                .id(rs.getLong("id"))
+                .memberId(rs.getLong("member_id"))
+                .griCode(griCode)
+                .indicator(catalog.indicatorOf(griCode, rs.getString("indicator")))
+                .category(catalog.categoryOf(griCode, rs.getString("category")))
+                .content(content)
+                // 압축 저장 마이그레이션 전 행은 content_size 가 없으므로 원문으로 계산
+                .contentSize(contentSize != null ? contentSize : GriContentCodec.sizeOf(content))
+                .createdAt(createdAt == null ? null : createdAt.toLocalDateTime())
+                .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
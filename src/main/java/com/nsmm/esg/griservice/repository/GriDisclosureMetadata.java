@@ -0,0 +1,28 @@
+package com.nsmm.esg.griservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 항목 메타데이터 프로젝션 (소유자 확인/삭제/버전 조건부 수정용)
+ * - content 본문 없이 진행률/변경 이벤트 반영과 응답 구성에 필요한 값만 조회
+ */
+public interface GriDisclosureMetadata {
+
+    Long getId();
+
+    String getGriCode();
+
+    String getIndicator();
+
+    String getCategory();
+
+    Boolean getCompleted();
+
+    Long getVersion();
+
+    String getContentHash();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
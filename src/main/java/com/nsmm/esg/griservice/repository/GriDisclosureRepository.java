@@ -1,14 +1,113 @@
 package com.nsmm.esg.griservice.repository;
 
 import com.nsmm.esg.griservice.entity.GriDisclosure;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GriDisclosureRepository extends JpaRepository<GriDisclosure, Long> {
+public interface GriDisclosureRepository extends JpaRepository<GriDisclosure, Long>, GriDisclosureRepositoryCustom {
     Optional<GriDisclosure> findByMemberIdAndGriCode(Long memberId, String griCode);
     List<GriDisclosure> findAllByMemberId(Long memberId);
+
+    /**
+     * 단건 ETag 계산용 버전 정보 조회 (content 미조회)
+     */
+    @Query("select d.id as id, d.updatedAt as updatedAt from GriDisclosure d where d.memberId = :memberId and d.griCode = :griCode")
+    Optional<GriDisclosureVersion> findVersionByMemberIdAndGriCode(@Param("memberId") Long memberId, @Param("griCode") String griCode);
+
+    /**
+     * 목록 ETag 계산용 사용자별 항목 집합 지문 조회 (content 미조회)
+     */
+    @Query("""
+            select count(d) as count, coalesce(sum(d.id), 0) as idSum, max(d.updatedAt) as lastUpdatedAt
+            from GriDisclosure d
+            where d.memberId = :memberId
+            """)
+    GriMemberFingerprint findFingerprintByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 사용자별 완료된 GRI 코드 목록 조회
+     * - content 컬럼을 읽지 않으며 idx_gri_disclosure_member_completed 인덱스만으로 처리됨
+     * - 시리즈/카테고리 집계는 GRI 카탈로그 기준으로 메모리에서 계산
+     */
+    @Query("select d.griCode from GriDisclosure d where d.memberId = :memberId and d.completed = true")
+    List<String> findCompletedGriCodesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 여러 사용자의 완료된 GRI 코드 일괄 조회
+     * - 사용자별 완료 코드는 카탈로그 항목 수(119건) 이내이므로 사용자별 그룹화는 메모리에서 처리
+     * - idx_gri_disclosure_member_completed 인덱스의 (memberId, completed) 범위 스캔만으로 처리됨
+     */
+    @Query("""
+            select d.memberId as memberId, d.griCode as griCode
+            from GriDisclosure d
+            where d.memberId in :memberIds and d.completed = true
+            """)
+    List<GriMemberCompletedCode> findCompletedGriCodesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 항목이 있는 사용자 ID를 오름차순으로 조회 (키셋 페이지, 진행률 요약 보정용)
+     */
+    @Query("select distinct d.memberId from GriDisclosure d where d.memberId > :afterMemberId order by d.memberId")
+    List<Long> findMemberIdsAfter(@Param("afterMemberId") Long afterMemberId, Pageable pageable);
+
+    /**
+     * 소유자 조건으로 항목 조회 (WHERE id = ? AND member_id = ?, content 는 접근할 때 지연 로딩)
+     */
+    Optional<GriDisclosure> findByIdAndMemberId(Long id, Long memberId);
+
+    /**
+     * 소유자 조건으로 메타데이터만 조회 (content 미조회)
+     */
+    @Query("""
+            select d.id as id, d.griCode as griCode, d.indicator as indicator, d.category as category,
+                   d.completed as completed, d.version as version, d.contentHash as contentHash,
+                   d.createdAt as createdAt, d.updatedAt as updatedAt
+            from GriDisclosure d
+            where d.id = :id and d.memberId = :memberId
+            """)
+    Optional<GriDisclosureMetadata> findMetadataByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    /**
+     * 소유자 조건 삭제 (엔티티 조회 없이 DELETE 한 문장)
+     *
+     * @return 삭제된 행 수 (0이면 항목 없음/권한 없음)
+     */
+    @Modifying
+    @Query("delete from GriDisclosure d where d.id = :id and d.memberId = :memberId")
+    int deleteByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    /**
+     * 버전 조건부 content 수정 (단일 UPDATE, 수정 전 행을 읽지 않음)
+     * - id, memberId, version이 모두 일치하고 content 해시가 다를 때만 수정하고 버전을 1 증가
+     * - 수정 전 완료 여부가 wasCompleted 인 행만 수정하므로, 수정되면 진행률 요약 증분(이전 → 이후)을 알 수 있음
+     *
+     * @return 수정된 행 수 (0이면 항목 없음/권한 없음/버전 불일치/같은 내용/완료 여부 불일치)
+     */
+    @Modifying
+    @Query("""
+            update GriDisclosure d
+            set d.content = :content, d.legacyContent = null, d.contentSize = :contentSize, d.contentHash = :contentHash,
+                d.completed = :completed, d.updatedAt = :updatedAt, d.version = d.version + 1
+            where d.id = :id and d.memberId = :memberId and d.version = :version and d.completed = :wasCompleted
+              and (d.contentHash is null or d.contentHash <> :contentHash)
+            """)
+    int updateContentIfVersionMatches(@Param("id") Long id,
+                                      @Param("memberId") Long memberId,
+                                      @Param("version") Long version,
+                                      @Param("wasCompleted") boolean wasCompleted,
+                                      @Param("content") String content,
+                                      @Param("contentSize") Integer contentSize,
+                                      @Param("contentHash") String contentHash,
+                                      @Param("completed") boolean completed,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
 }
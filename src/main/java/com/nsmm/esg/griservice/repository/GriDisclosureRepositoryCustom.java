@@ -0,0 +1,22 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureField;
+import com.nsmm.esg.griservice.dto.GriDisclosureSummary;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * GriDisclosureRepository 확장 쿼리 (동적 JPQL)
+ */
+public interface GriDisclosureRepositoryCustom {
+
+    /**
+     * griCode 기준 키셋 페이지 조회
+     * - (memberId, griCode) 유니크 인덱스를 따라 afterGriCode 다음 항목부터 limit 건 조회
+     * - 선택한 필드만 SELECT 하므로 content를 요청하지 않으면 본문을 읽지 않음
+     *
+     * @param afterGriCode 직전 페이지의 마지막 griCode (첫 페이지면 null)
+     */
+    List<GriDisclosureSummary> findPage(Long memberId, String afterGriCode, int limit, Set<GriDisclosureField> fields);
+}
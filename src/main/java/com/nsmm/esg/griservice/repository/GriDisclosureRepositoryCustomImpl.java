@@ -0,0 +1,72 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.dto.GriDisclosureField;
+import com.nsmm.esg.griservice.dto.GriDisclosureSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class GriDisclosureRepositoryCustomImpl implements GriDisclosureRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<GriDisclosureSummary> findPage(Long memberId, String afterGriCode, int limit, Set<GriDisclosureField> fields) {
+        // 필드 이름은 enum에 정의된 값만 사용하므로 JPQL 조립 시 외부 입력이 섞이지 않음
+        StringBuilder jpql = new StringBuilder("select ");
+        String separator = "";
+        for (GriDisclosureField field : fields) {
+            jpql.append(separator).append("d.").append(field.getProperty()).append(" as ").append(field.getProperty());
+            if (field == GriDisclosureField.CONTENT) {
+                // 압축 저장 마이그레이션 전 행은 기존 TEXT 컬럼에 content가 있음
+                jpql.append(", d.legacyContent as legacyContent");
+            }
+            separator = ", ";
+        }
+        jpql.append(" from GriDisclosure d where d.memberId = :memberId");
+        if (afterGriCode != null) {
+            jpql.append(" and d.griCode > :afterGriCode");
+        }
+        jpql.append(" order by d.griCode");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("memberId", memberId)
+                .setMaxResults(limit);
+        if (afterGriCode != null) {
+            query.setParameter("afterGriCode", afterGriCode);
+        }
+        return query.getResultList().stream()
+                .map(tuple -> toSummary(tuple, fields))
+                .toList();
+    }
+
+    private static GriDisclosureSummary toSummary(Tuple tuple, Set<GriDisclosureField> fields) {
+        GriDisclosureSummary.GriDisclosureSummaryBuilder builder = GriDisclosureSummary.builder();
+        GriCatalog catalog = GriCatalog.getInstance();
+        String griCode = tuple.get(GriDisclosureField.GRI_CODE.getProperty(), String.class);
+        for (GriDisclosureField field : fields) {
+            switch (field) {
+                case ID -> builder.id(tuple.get(field.getProperty(), Long.class));
+                case GRI_CODE -> builder.griCode(tuple.get(field.getProperty(), String.class));
+                case INDICATOR -> builder.indicator(catalog.indicatorOf(griCode, tuple.get(field.getProperty(), String.class)));
+                case CATEGORY -> builder.category(catalog.categoryOf(griCode, tuple.get(field.getProperty(), String.class)));
+                case CONTENT -> builder.content(Optional.ofNullable(tuple.get(field.getProperty(), String.class))
+                        .orElseGet(() -> tuple.get("legacyContent", String.class)));
+                case CONTENT_SIZE -> builder.contentSize(tuple.get(field.getProperty(), Integer.class));
+                case CONTENT_HASH -> builder.contentHash(tuple.get(field.getProperty(), String.class));
+                case MEMBER_ID -> builder.memberId(tuple.get(field.getProperty(), Long.class));
+                case CREATED_AT -> builder.createdAt(tuple.get(field.getProperty(), LocalDateTime.class));
+                case UPDATED_AT -> builder.updatedAt(tuple.get(field.getProperty(), LocalDateTime.class));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.entity.GriDisclosureRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GriDisclosureRevisionRepository extends JpaRepository<GriDisclosureRevision, Long> {
+
+    /**
+     * 이력 목록 조회 (payload 미조회, 최신 버전부터 키셋 페이지)
+     */
+    @Query("""
+            select r.version as version, r.type as type, r.contentSize as contentSize,
+                   r.contentHash as contentHash, r.createdAt as createdAt
+            from GriDisclosureRevision r
+            where r.disclosureId = :disclosureId and r.memberId = :memberId and r.version < :beforeVersion
+            order by r.version desc
+            """)
+    List<GriRevisionMetadata> findMetadata(@Param("disclosureId") Long disclosureId,
+                                           @Param("memberId") Long memberId,
+                                           @Param("beforeVersion") Long beforeVersion,
+                                           Pageable pageable);
+
+    /**
+     * 요청 버전 이하에서 가장 가까운 스냅샷 버전
+     */
+    @Query("""
+            select max(r.version) from GriDisclosureRevision r
+            where r.disclosureId = :disclosureId and r.memberId = :memberId
+              and r.type = com.nsmm.esg.griservice.entity.GriRevisionType.SNAPSHOT and r.version <= :version
+            """)
+    Optional<Long> findSnapshotVersionAtOrBefore(@Param("disclosureId") Long disclosureId,
+                                                 @Param("memberId") Long memberId,
+                                                 @Param("version") Long version);
+
+    /**
+     * 스냅샷부터 요청 버전까지의 이력 (재구성용, 버전 오름차순)
+     */
+    List<GriDisclosureRevision> findByDisclosureIdAndVersionBetweenOrderByVersion(Long disclosureId, Long fromVersion, Long toVersion);
+
+    /**
+     * 항목 현재 content 를 스냅샷 이력으로 추가 (DB 안에서 복사, 이미 있는 버전은 건너뜀)
+     * - 이전 content 를 모르는 일괄/버전 조건부 수정 경로에서 사용
+     * - 압축 저장 마이그레이션 전 행은 TEXT 컬럼 값을 원문 형식(첫 바이트 0)으로 복사
+     * - member_id 조건을 함께 주어 gri_disclosure 파티셔닝 시 한 파티션만 조회
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into gri_disclosure_revision
+                (disclosure_id, member_id, version, type, prefix_length, suffix_length, payload, content_size, content_hash, created_at)
+            select d.id, d.member_id, d.version, 'SNAPSHOT', 0, 0,
+                   coalesce(d.content_blob, concat(x'00', d.content)), d.content_size, d.content_hash, now()
+            from gri_disclosure d
+            where d.member_id = :memberId and d.id in (:ids)
+            """, nativeQuery = true)
+    int insertSnapshots(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,14 @@
+package com.nsmm.esg.griservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 항목 버전 정보 프로젝션 (ETag 계산용)
+ * - content 본문 없이 식별자와 수정 시각만 조회
+ */
+public interface GriDisclosureVersion {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
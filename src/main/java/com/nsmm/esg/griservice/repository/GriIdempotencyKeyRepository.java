@@ -0,0 +1,57 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.entity.GriIdempotencyKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GriIdempotencyKeyRepository extends JpaRepository<GriIdempotencyKey, Long> {
+
+    /**
+     * 키가 없을 때만 생성 (같은 키의 동시 요청은 먼저 들어간 트랜잭션이 끝날 때까지 대기)
+     *
+     * @return 생성된 행 수 (0이면 이미 존재)
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into gri_idempotency_key (member_id, idempotency_key, request_hash, created_at, expires_at)
+            values (:memberId, :idempotencyKey, :requestHash, :createdAt, :expiresAt)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("requestHash") String requestHash,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 키 조회 후 트랜잭션 종료까지 행 잠금 (SELECT ... FOR UPDATE, 커밋된 최신 행 기준)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select k from GriIdempotencyKey k where k.memberId = :memberId and k.idempotencyKey = :idempotencyKey")
+    Optional<GriIdempotencyKey> findForUpdate(@Param("memberId") Long memberId,
+                                              @Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("""
+            update GriIdempotencyKey k set k.responseBody = :responseBody
+            where k.memberId = :memberId and k.idempotencyKey = :idempotencyKey
+            """)
+    int updateResponse(@Param("memberId") Long memberId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("responseBody") String responseBody);
+
+    /**
+     * 만료된 키 삭제 (한 번에 최대 limit 건)
+     */
+    @Modifying
+    @Query(value = "delete from gri_idempotency_key where expires_at < :now order by expires_at limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.nsmm.esg.griservice.repository;
+
+/**
+ * 사용자별 완료 GRI 코드 프로젝션 (여러 사용자 진행률 일괄 조회용)
+ * - content 본문 없이 사용자 ID와 GRI 코드만 조회
+ */
+public interface GriMemberCompletedCode {
+
+    Long getMemberId();
+
+    String getGriCode();
+}
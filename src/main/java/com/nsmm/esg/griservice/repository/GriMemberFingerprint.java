@@ -0,0 +1,16 @@
+package com.nsmm.esg.griservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 GRI 항목 집합의 변경 감지용 지문 프로젝션 (목록 ETag 계산용)
+ * - 등록/삭제 시 count와 idSum이, 수정 시 lastUpdatedAt이 달라짐
+ */
+public interface GriMemberFingerprint {
+
+    Long getCount();
+
+    Long getIdSum();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,62 @@
+package com.nsmm.esg.griservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MySQL 이름 잠금(GET_LOCK) 저장소
+ *
+ * - 여러 인스턴스가 같은 주기 작업을 동시에 실행하지 않도록 하나의 인스턴스만 실행
+ * - 이름 잠금은 커넥션(세션) 단위이므로 작업이 끝날 때까지 같은 커넥션을 잡고 있다가 해제
+ *   (커넥션이 끊기면 MySQL 이 잠금을 자동 해제하므로 인스턴스가 죽어도 잠금이 남지 않음)
+ * - 트랜잭션 밖에서 호출 (라우팅 DataSource 가 primary 커넥션을 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GriNamedLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잠금을 얻은 경우에만 작업 실행, 다른 인스턴스가 잠금을 가지고 있으면 기다리지 않음
+     *
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!acquire(connection, name)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                release(connection, name);
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean acquire(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void release(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, name);
+            statement.executeQuery().close();
+        }
+    }
+}
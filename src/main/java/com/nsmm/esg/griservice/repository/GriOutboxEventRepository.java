@@ -0,0 +1,99 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GriOutboxEventRepository extends JpaRepository<GriOutboxEvent, Long> {
+
+    /**
+     * 변경 피드 조회 (피드 시퀀스 오름차순)
+     * - 피드 시퀀스는 릴레이가 커밋된 이벤트에만 한 트랜잭션씩 순서대로 부여하므로,
+     *   since 이후 보이는 시퀀스는 빈틈이 없고 나중에 더 작은 시퀀스가 나타나지 않음
+     */
+    @Query("""
+            select e from GriOutboxEvent e
+            where e.feedSeq > :since
+            order by e.feedSeq
+            """)
+    List<GriOutboxEvent> findFeed(@Param("since") Long since, Pageable pageable);
+
+    @Query("""
+            select e from GriOutboxEvent e
+            where e.memberId = :memberId and e.feedSeq > :since
+            order by e.feedSeq
+            """)
+    List<GriOutboxEvent> findFeedByMemberId(@Param("memberId") Long memberId,
+                                            @Param("since") Long since,
+                                            Pageable pageable);
+
+    /**
+     * 피드 시퀀스를 아직 부여하지 않은 커밋된 이벤트 조회 (채번 순, 릴레이용)
+     */
+    @Query("select e from GriOutboxEvent e where e.feedSeq is null order by e.id")
+    List<GriOutboxEvent> findUnsequenced(Pageable pageable);
+
+    /**
+     * 마지막으로 부여한 피드 시퀀스 (없으면 0)
+     */
+    @Query("select coalesce(max(e.feedSeq), 0) from GriOutboxEvent e")
+    long findMaxFeedSeq();
+
+    /**
+     * 보관 중인 가장 오래된 피드 시퀀스 (보관 기간 정리로 지워진 구간 확인용)
+     */
+    @Query("select min(e.feedSeq) from GriOutboxEvent e")
+    Optional<Long> findMinFeedSeq();
+
+    /**
+     * 미발행 이벤트 조회 (피드 시퀀스 오름차순, 릴레이용)
+     */
+    @Query("select e from GriOutboxEvent e where e.publishedAt is null and e.feedSeq is not null order by e.feedSeq")
+    List<GriOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("update GriOutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 항목들의 현재 상태로 이벤트 일괄 추가 (일괄 등록/수정용, DB 안에서 처리)
+     * - member_id 조건을 함께 주어 gri_disclosure 파티셔닝 시 한 파티션만 조회
+     */
+    @Modifying
+    @Query(value = """
+            insert into gri_outbox_event (event_type, disclosure_id, member_id, gri_code, version, content_hash, created_at)
+            select :eventType, d.id, d.member_id, d.gri_code, d.version, d.content_hash, :createdAt
+            from gri_disclosure d
+            where d.member_id = :memberId and d.id in (:ids)
+            order by d.id
+            """, nativeQuery = true)
+    int insertForDisclosures(@Param("eventType") String eventType,
+                             @Param("memberId") Long memberId,
+                             @Param("ids") Collection<Long> ids,
+                             @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 (한 번에 최대 limit 건)
+     * - 마지막 피드 시퀀스 행은 남겨 다음 시퀀스가 이어지도록 함 (모두 지우면 1부터 다시 부여됨)
+     */
+    @Modifying
+    @Query(value = """
+            delete from gri_outbox_event
+            where published_at is not null and created_at < :before and feed_seq < :maxFeedSeq
+            order by feed_seq
+            limit :limit
+            """, nativeQuery = true)
+    int deletePublishedBefore(@Param("before") LocalDateTime before,
+                              @Param("maxFeedSeq") long maxFeedSeq,
+                              @Param("limit") int limit);
+}
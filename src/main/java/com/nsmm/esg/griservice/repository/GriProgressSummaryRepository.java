@@ -0,0 +1,38 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.entity.GriProgressSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GriProgressSummaryRepository extends JpaRepository<GriProgressSummary, Long> {
+
+    /**
+     * 요약 행 조회 후 트랜잭션 종료까지 행 잠금 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from GriProgressSummary s where s.memberId = :memberId")
+    Optional<GriProgressSummary> findForUpdate(@Param("memberId") Long memberId);
+
+    /**
+     * 요약 행이 없을 때만 생성 (동시 생성 시 먼저 들어간 행 유지)
+     *
+     * @return 생성된 행 수 (0이면 이미 존재)
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into gri_progress_summary (member_id, completed, series_counts, category_counts, updated_at, version)
+            values (:memberId, :completed, :seriesCounts, :categoryCounts, now(), 0)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId,
+                       @Param("completed") int completed,
+                       @Param("seriesCounts") String seriesCounts,
+                       @Param("categoryCounts") String categoryCounts);
+}
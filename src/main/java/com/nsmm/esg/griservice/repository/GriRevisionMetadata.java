@@ -0,0 +1,22 @@
+package com.nsmm.esg.griservice.repository;
+
+import com.nsmm.esg.griservice.entity.GriRevisionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * GRI 항목 이력 메타데이터 프로젝션 (이력 목록용)
+ * - payload 없이 버전, 저장 형식, 크기/해시, 생성 시각만 조회
+ */
+public interface GriRevisionMetadata {
+
+    Long getVersion();
+
+    GriRevisionType getType();
+
+    Integer getContentSize();
+
+    String getContentHash();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,300 @@
+package com.nsmm.esg.griservice.search;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriSearchResponse;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * GRI 공시 항목 전문 검색용 로컬 역색인 (Lucene, 로컬 디스크)
+ *
+ * - content/indicator 를 Nori 형태소 분석기(KoreanAnalyzer)로 색인
+ * - 문서 ID는 gri_disclosure.id, memberId 는 LongPoint 로 색인하여 사용자 범위 필터에 사용
+ * - 쓰기 후 SearcherManager 를 갱신하여 곧바로 검색에 반영(NRT), 디스크 커밋은 주기적으로 수행
+ * - 인스턴스별 로컬 색인이므로 모든 인스턴스가 변경 피드를 따라 반영하며, 마지막으로 반영한 피드 시퀀스를
+ *   Lucene 커밋 사용자 데이터에 색인 내용과 함께 저장 (커밋 전에 죽으면 마지막 커밋의 시퀀스부터 다시 반영)
+ */
+@Slf4j
+@Component
+public class GriSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_MEMBER_ID = "memberId";
+    static final String FIELD_GRI_CODE = "griCode";
+    static final String FIELD_CATEGORY = "category";
+    static final String FIELD_INDICATOR = "indicator";
+    static final String FIELD_CONTENT = "content";
+
+    // 지표명 일치를 본문 일치보다 높게 평가
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(FIELD_INDICATOR, 2.0f, FIELD_CONTENT, 1.0f);
+
+    // 커밋 사용자 데이터 키: 색인에 반영한 마지막 변경 피드 시퀀스
+    private static final String APPLIED_FEED_SEQ = "appliedFeedSeq";
+
+    // 하이라이트 조각 수/길이
+    private static final int MAX_FRAGMENTS = 2;
+    private static final int FRAGMENT_SIZE = 120;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 색인에 쓴 마지막 피드 시퀀스 / 디스크에 커밋된 피드 시퀀스 (알 수 없으면 null, 전체 재색인 필요)
+    private volatile Long appliedFeedSeq;
+    private Long committedFeedSeq;
+
+    public GriSearchIndex(@Value("${gri.search.index-dir:./data/gri-search-index}") Path indexDir) throws IOException {
+        Files.createDirectories(indexDir);
+        this.directory = FSDirectory.open(indexDir);
+        this.committedFeedSeq = readCommittedFeedSeq(directory);
+        this.appliedFeedSeq = committedFeedSeq;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("[GRI 검색 색인] 경로={}, 문서 수={}, 반영 피드 시퀀스={}",
+                indexDir.toAbsolutePath(), writer.getDocStats().numDocs, appliedFeedSeq);
+    }
+
+    /**
+     * 색인에 반영한 마지막 변경 피드 시퀀스 (기록이 없는 색인이면 null)
+     */
+    public Long getAppliedFeedSeq() {
+        return appliedFeedSeq;
+    }
+
+    /**
+     * 변경 피드를 이 시퀀스까지 색인에 반영했음을 기록 (다음 커밋 때 색인 내용과 함께 저장)
+     * - 해당 시퀀스까지의 문서를 색인에 쓴 뒤 호출
+     */
+    public void setAppliedFeedSeq(long feedSeq) {
+        this.appliedFeedSeq = feedSeq;
+    }
+
+    /**
+     * 반영 시퀀스 기록 제거 (전체 재색인 시작 전, 재색인 도중 커밋된 색인이 이전 시퀀스로 남지 않도록)
+     * - 진행 중인 커밋이 끝난 뒤 반환
+     */
+    public synchronized void resetAppliedFeedSeq() {
+        this.appliedFeedSeq = null;
+    }
+
+    /**
+     * 항목 색인 (같은 ID의 기존 문서는 교체), 검색 반영은 refresh() 호출 시
+     */
+    public void index(GriDisclosureResponse disclosure) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(disclosure.getId()), Field.Store.YES));
+        document.add(new LongPoint(FIELD_MEMBER_ID, disclosure.getMemberId()));
+        document.add(new StoredField(FIELD_MEMBER_ID, disclosure.getMemberId()));
+        document.add(new StoredField(FIELD_GRI_CODE, disclosure.getGriCode()));
+        if (disclosure.getCategory() != null) {
+            document.add(new StoredField(FIELD_CATEGORY, disclosure.getCategory()));
+        }
+        if (disclosure.getIndicator() != null) {
+            document.add(new TextField(FIELD_INDICATOR, disclosure.getIndicator(), Field.Store.YES));
+        }
+        if (disclosure.getContent() != null) {
+            document.add(new TextField(FIELD_CONTENT, disclosure.getContent(), Field.Store.YES));
+        }
+        try {
+            writer.updateDocument(new Term(FIELD_ID, String.valueOf(disclosure.getId())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Collection<Long> ids) {
+        Term[] terms = ids.stream().map(id -> new Term(FIELD_ID, String.valueOf(id))).toArray(Term[]::new);
+        try {
+            writer.deleteDocuments(terms);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인 변경을 검색에 반영 (디스크 커밋 없이 NRT 리더 재오픈)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 관련도 순 검색
+     *
+     * @param memberId 사용자 ID (null이면 전체 사용자)
+     * @param text     사용자 입력 검색어 (쿼리 문법은 이스케이프하여 일반 텍스트로 처리)
+     */
+    public GriSearchResponse search(Long memberId, String text, int limit) {
+        Query query = parse(text);
+        Query scoped = memberId == null ? query : new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(FIELD_MEMBER_ID, memberId), BooleanClause.Occur.FILTER)
+                .build();
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(scoped, limit);
+            QueryScorer scorer = new QueryScorer(query, FIELD_CONTENT);
+            Highlighter highlighter = new Highlighter(
+                    new SimpleHTMLFormatter("<em>", "</em>"), new SimpleHTMLEncoder(), scorer);
+            highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, FRAGMENT_SIZE));
+            List<GriSearchResponse.Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = searcher.storedFields().document(scoreDoc.doc);
+                hits.add(GriSearchResponse.Hit.builder()
+                        .id(Long.parseLong(document.get(FIELD_ID)))
+                        .memberId(document.getField(FIELD_MEMBER_ID).numericValue().longValue())
+                        .griCode(document.get(FIELD_GRI_CODE))
+                        .indicator(document.get(FIELD_INDICATOR))
+                        .category(document.get(FIELD_CATEGORY))
+                        .score(scoreDoc.score)
+                        .highlights(highlight(highlighter, document.get(FIELD_CONTENT)))
+                        .build());
+            }
+            return GriSearchResponse.builder()
+                    .query(text)
+                    .totalHits(topDocs.totalHits.value)
+                    .items(hits)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 주기적 디스크 커밋 (반영 피드 시퀀스를 커밋 사용자 데이터로 함께 저장)
+     * - 커밋 전 변경은 재시작 시 유실되지만, 커밋된 시퀀스 이후 변경 피드를 다시 반영하여 복구
+     */
+    @Scheduled(fixedDelayString = "${gri.search.commit-interval:30s}")
+    public synchronized void commit() {
+        try {
+            Long feedSeq = appliedFeedSeq;
+            if (writer.hasUncommittedChanges() || !Objects.equals(feedSeq, committedFeedSeq)) {
+                writer.setLiveCommitData(feedSeq == null
+                        ? Map.<String, String>of().entrySet()
+                        : Map.of(APPLIED_FEED_SEQ, String.valueOf(feedSeq)).entrySet());
+                writer.commit();
+                committedFeedSeq = feedSeq;
+            }
+        } catch (IOException e) {
+            log.warn("[GRI 검색 색인] 커밋 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Long readCommittedFeedSeq(Directory directory) throws IOException {
+        if (!DirectoryReader.indexExists(directory)) {
+            return null;
+        }
+        String value = SegmentInfos.readLatestCommit(directory).getUserData().get(APPLIED_FEED_SEQ);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{FIELD_INDICATOR, FIELD_CONTENT}, analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParser.escape(text));
+        } catch (ParseException e) {
+            throw new InvalidGriRequestException("검색어를 해석할 수 없습니다: " + text);
+        }
+    }
+
+    private List<String> highlight(Highlighter highlighter, String content) throws IOException {
+        if (content == null) {
+            return List.of();
+        }
+        try (TokenStream tokens = analyzer.tokenStream(FIELD_CONTENT, content)) {
+            String[] fragments = highlighter.getBestFragments(tokens, content, MAX_FRAGMENTS);
+            return Arrays.asList(fragments);
+        } catch (InvalidTokenOffsetsException e) {
+            return List.of();
+        }
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("[GRI 검색 색인] 검색기 반환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * content 압축 저장 마이그레이션 러너
+ *
+ * - 압축 저장 도입 이전 행의 content(TEXT)를 content_blob 으로 옮기고 크기/해시를 채움
+ * - 기동 완료 후 별도 스레드에서 id 순으로 batch-size 건씩 처리하고, 배치 사이에 pause 만큼 쉬어
+ *   운영 트래픽과 DB 부하를 나눔
+ * - 마이그레이션이 끝난 환경에서는 gri.content.compression-migration.enabled=false 로 비활성화 가능
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gri.content.compression-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class GriContentCompressionMigrationRunner {
+
+    private final GriDisclosureJdbcRepository griDisclosureJdbcRepository;
+    private final int batchSize;
+    private final Duration pause;
+
+    public GriContentCompressionMigrationRunner(GriDisclosureJdbcRepository griDisclosureJdbcRepository,
+                                                @Value("${gri.content.compression-migration.batch-size:200}") int batchSize,
+                                                @Value("${gri.content.compression-migration.pause:200ms}") Duration pause) {
+        this.griDisclosureJdbcRepository = griDisclosureJdbcRepository;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        Thread thread = new Thread(this::migrate, "gri-content-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrate() {
+        long afterId = 0;
+        int batches = 0;
+        try {
+            Long lastId;
+            while ((lastId = griDisclosureJdbcRepository.migrateLegacyContent(afterId, batchSize)) != null) {
+                afterId = lastId;
+                batches++;
+                Thread.sleep(pause.toMillis());
+            }
+            if (batches > 0) {
+                log.info("[GRI content 압축 마이그레이션] 완료 배치 수={}, 마지막 id={}", batches, afterId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("[GRI content 압축 마이그레이션] 중단 (마지막 id={})", afterId);
+        } catch (RuntimeException e) {
+            log.error("[GRI content 압축 마이그레이션] 실패 (마지막 id={}), 다음 기동 시 이어서 진행", afterId, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.nsmm.esg.griservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriExportFormat;
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * GRI 공시 항목 스트리밍 내보내기 서비스
+ *
+ * - DB 커서에서 읽은 행을 곧바로 응답 스트림에 기록 (전체 목록을 메모리에 올리지 않음)
+ * - NDJSON: 행마다 JSON 객체 한 줄
+ * - CSV: 헤더 + 행마다 한 줄, 쉼표/따옴표/줄바꿈이 포함된 값은 따옴표로 감쌈
+ * - 읽기 전용 트랜잭션이므로 읽기 복제본 라우팅 사용 시 복제본에서 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class GriDisclosureExportService {
+
+    private static final String CSV_HEADER = "id,memberId,griCode,indicator,category,content,createdAt,updatedAt";
+
+    private final GriDisclosureJdbcRepository griDisclosureJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * GRI 항목 내보내기
+     *
+     * @param memberId 사용자 ID (null이면 전체 사용자, 관리자용)
+     * @param format   출력 형식
+     * @param out      응답 출력 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(Long memberId, GriExportFormat format, OutputStream out) throws IOException {
+        try {
+            switch (format) {
+                case NDJSON -> writeNdjson(memberId, out);
+                case CSV -> writeCsv(memberId, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(Long memberId, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            griDisclosureJdbcRepository.streamAll(memberId, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // 마지막 행도 줄바꿈으로 끝나도록 처리 (SequenceWriter는 값 사이에만 구분자를 기록)
+            writer.flush();
+            out.write('\n');
+        }
+    }
+
+    private void writeCsv(Long memberId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        griDisclosureJdbcRepository.streamAll(memberId, row -> {
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, GriDisclosureResponse row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getMemberId()));
+        writer.write(',');
+        writeCsvValue(writer, row.getGriCode());
+        writer.write(',');
+        writeCsvValue(writer, row.getIndicator());
+        writer.write(',');
+        writeCsvValue(writer, row.getCategory());
+        writer.write(',');
+        writeCsvValue(writer, row.getContent());
+        writer.write(',');
+        writeCsvValue(writer, row.getCreatedAt() == null ? null : row.getCreatedAt().toString());
+        writer.write(',');
+        writeCsvValue(writer, row.getUpdatedAt() == null ? null : row.getUpdatedAt().toString());
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -1,16 +1,48 @@
 package com.nsmm.esg.griservice.service;
 
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.datasource.GriReadYourWrites;
+import com.nsmm.esg.griservice.dto.GriBulkUpsertResponse;
+import com.nsmm.esg.griservice.dto.GriContentPatchRequest;
+import com.nsmm.esg.griservice.dto.GriDisclosureField;
+import com.nsmm.esg.griservice.dto.GriDisclosurePageResponse;
 import com.nsmm.esg.griservice.dto.GriDisclosureRequest;
 import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriDisclosureSummary;
+import com.nsmm.esg.griservice.dto.GriTextEdit;
+import com.nsmm.esg.griservice.entity.GriChangeType;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
 import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.repository.GriDisclosureContentState;
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import com.nsmm.esg.griservice.repository.GriDisclosureMetadata;
 import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import com.nsmm.esg.griservice.exception.GriNotFoundException;
 import com.nsmm.esg.griservice.exception.UnauthorizedGriAccessException;
 import com.nsmm.esg.griservice.exception.DuplicateGriDisclosureException;
+import com.nsmm.esg.griservice.exception.GriVersionConflictException;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
 
 /**
  * GRI 공시 항목 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -19,52 +51,384 @@ import com.nsmm.esg.griservice.exception.DuplicateGriDisclosureException;
 @RequiredArgsConstructor
 public class GriDisclosureService {
 
+    // 일괄 등록 1회 요청당 최대 항목 수 (GRI 표준 전체 항목 수 이상으로 여유 있게 설정)
+    private static final int MAX_BULK_SIZE = 200;
+
+    // 목록 페이지 조회 1회 최대 항목 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // MySQL 중복 키 오류 코드 (ER_DUP_ENTRY)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
     private final GriDisclosureRepository griDisclosureRepository;
+    private final GriDisclosureJdbcRepository griDisclosureJdbcRepository;
+    private final GriProgressCache griProgressCache;
+    private final GriProgressSummaryService griProgressSummaryService;
+    private final GriSearchService griSearchService;
+    private final GriRevisionService griRevisionService;
+    private final GriOutboxService griOutboxService;
+    private final GriIdempotencyService griIdempotencyService;
+    private final GriReadYourWrites griReadYourWrites;
+    private final PlatformTransactionManager transactionManager;
+
+    // 사용자별 진행 중인 전체 목록 조회 (동시 요청 병합)
+    private final SingleFlight<Long, List<GriDisclosureResponse>> listLoads = new SingleFlight<>();
 
     /**
      * [CREATE] GRI 항목 신규 등록
      *
-     * 이 메서드는 특정 사용자가 동일한 GRI 코드를 중복 등록하지 못하도록
-     * 먼저 해당 사용자와 GRI 코드로 기존 항목이 존재하는지 확인합니다.
-     * 만약 이미 존재한다면, 중복 등록을 방지하기 위해 DuplicateGriDisclosureException을 발생시킵니다.
+     * 사전 조회 없이 INSERT 한 번으로 등록하며, 동일 사용자의 동일 GRI 코드 중복은
+     * (memberId, griCode) 유니크 제약 위반으로 감지하여 DuplicateGriDisclosureException을 발생시킵니다.
+     * 동시 등록 요청도 제약에서 걸러지므로 조회 후 저장 사이의 경쟁 상태가 없습니다.
+     * idempotencyKey가 주어지면 같은 키로 이미 처리된 요청의 최초 응답을 그대로 반환합니다.
      *
      * @param memberId 인증된 사용자 ID
      * @param request GRI 공시 요청 DTO
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 null)
      * @return 저장된 GRI 항목의 응답 DTO
      */
-    public GriDisclosureResponse create(Long memberId, GriDisclosureRequest request) {
-        // 중복 체크: 동일 사용자에 대해 동일 GRI 코드가 이미 존재하는지 확인
-        griDisclosureRepository.findByMemberIdAndGriCode(memberId, request.getGriCode())
-            .ifPresent(existing -> {
-                // 중복 발견 시 예외 발생하여 클라이언트에 알림
-                throw new DuplicateGriDisclosureException(request.getGriCode());
-            });
-        GriDisclosure saved = griDisclosureRepository.save(request.toEntity(memberId));
-        return GriDisclosureResponse.fromEntity(saved);
+    @Transactional
+    public GriDisclosureResponse create(Long memberId, GriDisclosureRequest request, String idempotencyKey) {
+        validateGriCode(request.getGriCode());
+        if (idempotencyKey != null) {
+            Optional<GriDisclosureResponse> replay = griIdempotencyService.claim(memberId, idempotencyKey, request.fingerprint());
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
+        long writeStartedAt = System.nanoTime();
+        GriDisclosure saved;
+        try {
+            saved = griDisclosureRepository.save(request.toEntity(memberId));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateGriCode(e)) {
+                throw DuplicateGriDisclosureException.expected(request.getGriCode());
+            }
+            throw e;
+        }
+        onWritten(memberId);
+        griProgressSummaryService.onChanged(memberId, saved.getGriCode(), null, saved.isCompleted());
+        griRevisionService.recordCreated(saved);
+        griOutboxService.record(GriChangeType.CREATED, saved);
+        // 진행률 캐시에 신규 항목 반영
+        griProgressCache.onChanged(memberId, writeStartedAt, saved.getGriCode(), null, saved.isCompleted());
+        griSearchService.onSaved(List.of(saved.getId()));
+        GriDisclosureResponse response = GriDisclosureResponse.fromEntity(saved);
+        if (idempotencyKey != null) {
+            griIdempotencyService.complete(memberId, idempotencyKey, response);
+        }
+        return response;
+    }
+
+    /**
+     * (memberId, griCode) 유니크 제약 위반 여부
+     * - 제약 이름을 알 수 없으면 MySQL 중복 키 오류 코드로 판단 (PK는 자동 채번이므로 중복 키는 이 제약뿐)
+     * - JDBC 배치 INSERT 는 BatchUpdateException 아래에 원인 SQLException 이 있으므로 원인을 끝까지 확인
+     */
+    private static boolean isDuplicateGriCode(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                if (constraintName != null) {
+                    return constraintName.toLowerCase(Locale.ROOT).contains(GriDisclosure.UK_MEMBER_GRI_CODE);
+                }
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [UPSERT] GRI 항목 일괄 등록/수정
+     *
+     * 보고서 전체를 한 번의 요청과 하나의 트랜잭션으로 반영합니다.
+     * 기존 항목 여부와 수정 직전 content/버전은 (memberId, griCode IN ...) 단일 쿼리로 확인하고,
+     * 신규 항목은 JDBC 배치 INSERT, 내용이 바뀐 기존 항목은 조회한 버전 조건의 JDBC 배치 UPDATE(content)로 처리합니다.
+     * 조회 이후 다른 요청이 먼저 수정한 항목이 있으면 GriVersionConflictException을,
+     * 같은 코드를 먼저 등록했으면 DuplicateGriDisclosureException(409)을 발생시키고 아무것도 반영하지 않습니다.
+     * 수정된 항목의 이력은 조회한 직전 content 대비 DELTA 로 기록합니다.
+     * 요청이 비어있거나 최대 건수를 초과하거나, GRI 카탈로그에 없는 코드/코드 중복이 있으면
+     * InvalidGriRequestException을 발생시키고 아무것도 반영하지 않습니다.
+     *
+     * @param memberId 인증된 사용자 ID
+     * @param requests GRI 공시 요청 DTO 목록
+     * @return 항목별 처리 결과 (CREATED / UPDATED / 내용이 같아 수정하지 않은 UNCHANGED)
+     */
+    @Transactional
+    public GriBulkUpsertResponse upsertAll(Long memberId, List<GriDisclosureRequest> requests) {
+        validateBulk(requests);
+
+        // 첫 조회 전에 요약 행을 잠가, 이 사용자의 동시 쓰기가 커밋된 뒤의 스냅샷으로 조회/재집계
+        griProgressSummaryService.lock(memberId);
+
+        Set<String> griCodes = new LinkedHashSet<>();
+        requests.forEach(request -> griCodes.add(request.getGriCode()));
+        Map<String, GriDisclosureContentState> existing = griDisclosureJdbcRepository.findContentStatesByGriCodes(memberId, griCodes);
+        Map<String, Long> existingIds = new LinkedHashMap<>();
+        existing.forEach((griCode, state) -> existingIds.put(griCode, state.getId()));
+
+        // 신규/기존 항목 분리 (기존 항목 중 내용이 바뀐 항목만 수정)
+        List<GriDisclosureRequest> inserts = new ArrayList<>();
+        Map<Long, String> updates = new LinkedHashMap<>();
+        List<GriDisclosureContentState> changed = new ArrayList<>();
+        for (GriDisclosureRequest request : requests) {
+            GriDisclosureContentState state = existing.get(request.getGriCode());
+            if (state == null) {
+                inserts.add(request);
+                continue;
+            }
+            updates.put(state.getId(), request.getContent());
+            if (!state.hasSameContent(request.getContent())) {
+                changed.add(state);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!inserts.isEmpty()) {
+            try {
+                griDisclosureJdbcRepository.batchInsert(memberId, inserts, now);
+            } catch (DataIntegrityViolationException e) {
+                // 기존 항목 조회 이후 다른 요청이 같은 코드를 먼저 등록함
+                if (isDuplicateGriCode(e)) {
+                    throw DuplicateGriDisclosureException.expected("다른 요청이 먼저 등록한 GRI 코드가 포함되어 있습니다. 다시 시도해 주세요.");
+                }
+                throw e;
+            }
+        }
+        if (!changed.isEmpty()) {
+            int[] counts = griDisclosureJdbcRepository.batchUpdateContent(memberId, changed, updates, now);
+            for (int count : counts) {
+                if (count == 0) {
+                    // 조회 이후 다른 요청이 먼저 수정/삭제함 (직전 content 가 달라 이력을 만들 수 없음)
+                    throw new GriVersionConflictException("다른 요청이 먼저 수정한 GRI 항목이 있습니다. 최신 내용을 다시 조회해 주세요.");
+                }
+            }
+        }
+        onWritten(memberId);
+        // 여러 항목이 한 번에 바뀌므로 증분 반영 대신 진행률 요약 재집계 및 캐시 무효화
+        griProgressSummaryService.refresh(memberId);
+        griProgressCache.evict(memberId);
+
+        // 신규 등록된 항목의 ID 조회 (배치 INSERT는 생성 키를 항목별로 돌려주지 않음)
+        Map<String, Long> ids = inserts.isEmpty()
+                ? existingIds
+                : griDisclosureJdbcRepository.findIdsByGriCodes(memberId, griCodes);
+        List<Long> createdIds = new ArrayList<>(inserts.size());
+        inserts.forEach(request -> createdIds.add(ids.get(request.getGriCode())));
+        // 신규 항목은 DB 안에서 첫 스냅샷으로 복사, 수정 항목은 조회한 직전 content 대비 DELTA
+        griRevisionService.recordSnapshots(memberId, createdIds);
+        for (GriDisclosureContentState state : changed) {
+            griRevisionService.recordUpdated(state.getId(), memberId, state.getVersion() + 1,
+                    state.getContent(), updates.get(state.getId()));
+        }
+        griOutboxService.recordAll(GriChangeType.CREATED, memberId, createdIds);
+        // 내용이 같아 버전이 바뀌지 않은 항목은 변경 이벤트를 남기지 않음
+        List<Long> changedIds = changed.stream().map(GriDisclosureContentState::getId).toList();
+        griOutboxService.recordAll(GriChangeType.UPDATED, memberId, changedIds);
+        List<Long> indexIds = new ArrayList<>(createdIds);
+        indexIds.addAll(changedIds);
+        griSearchService.onSaved(indexIds);
+
+        Set<Long> changedIdSet = Set.copyOf(changedIds);
+        List<GriBulkUpsertResponse.Item> items = new ArrayList<>(requests.size());
+        for (GriDisclosureRequest request : requests) {
+            Long id = ids.get(request.getGriCode());
+            GriBulkUpsertResponse.Status status;
+            if (!existingIds.containsKey(request.getGriCode())) {
+                status = GriBulkUpsertResponse.Status.CREATED;
+            } else if (changedIdSet.contains(id)) {
+                status = GriBulkUpsertResponse.Status.UPDATED;
+            } else {
+                status = GriBulkUpsertResponse.Status.UNCHANGED;
+            }
+            items.add(GriBulkUpsertResponse.Item.builder()
+                    .griCode(request.getGriCode())
+                    .id(id)
+                    .status(status)
+                    .build());
+        }
+        return GriBulkUpsertResponse.builder()
+                .createdCount(inserts.size())
+                .updatedCount(changed.size())
+                .unchangedCount(updates.size() - changed.size())
+                .items(items)
+                .build();
+    }
+
+    /**
+     * GRI 카탈로그에 있는 코드인지 확인
+     */
+    private static void validateGriCode(String griCode) {
+        if (griCode == null || griCode.isBlank()) {
+            throw new InvalidGriRequestException("griCode는 필수 값입니다.");
+        }
+        if (!GriCatalog.getInstance().contains(griCode)) {
+            throw new InvalidGriRequestException("GRI 표준에 없는 코드입니다: " + griCode);
+        }
+    }
+
+    private void validateBulk(List<GriDisclosureRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidGriRequestException("일괄 등록할 GRI 항목이 없습니다.");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new InvalidGriRequestException("일괄 등록은 최대 " + MAX_BULK_SIZE + "건까지 가능합니다.");
+        }
+        Set<String> seen = new LinkedHashSet<>();
+        for (GriDisclosureRequest request : requests) {
+            validateGriCode(request.getGriCode());
+            if (!seen.add(request.getGriCode())) {
+                throw new InvalidGriRequestException("중복된 GRI 코드가 포함되어 있습니다: " + request.getGriCode());
+            }
+        }
     }
 
     /**
      * [UPDATE] GRI 항목 내용 수정
      *
      * 이 메서드는 GRI 항목을 수정할 때, 요청한 사용자가 해당 항목의 소유자인지 확인합니다.
-     * findById로 항목을 조회한 후 filter를 사용하여 memberId가 일치하는지 검증합니다.
-     * 만약 소유자가 아니라면 UnauthorizedGriAccessException 예외를 발생시켜 권한 없는 접근을 차단합니다.
+     * version이 주어지면 항목을 먼저 조회하지 않고 (id, memberId, version, content 해시) 조건부 UPDATE 로 수정하며,
+     * 수정된 행이 없을 때만 본문 없이 버전/해시를 조회하여 같은 내용(재시도, 변경 없음)·버전 충돌(409)·권한 없음(403)을 구분합니다.
+     * 현재 내용과 같은 content 는 요청 version과 관계없이 버전/수정 시각을 바꾸지 않고 현재 항목을 반환합니다
+     * (응답을 받지 못한 자동 저장 재시도가 409가 되지 않도록).
+     * 수정 전 본문을 읽지 않으므로 이력은 수정된 content 를 DB 안에서 복사한 SNAPSHOT 으로 기록합니다.
+     * version이 없으면 (id, memberId) 조건으로 항목을 조회하여 소유자를 검증하고,
+     * 커밋 시점에 @Version으로 동시 수정 여부를 검증합니다.
      *
      * @param id 수정할 항목 ID
      * @param memberId 인증된 사용자 ID
      * @param content 수정할 내용
+     * @param version 클라이언트가 가진 항목 버전 (null이면 조회 후 수정)
      * @return 수정된 항목의 응답 DTO
      */
-    public GriDisclosureResponse update(Long id, Long memberId, String content) {
-        // 항목 존재 여부 및 소유자 검증
-        GriDisclosure disclosure = griDisclosureRepository.findById(id)
-                .filter(d -> d.getMemberId().equals(memberId)) // 사용자 일치 여부 검증
-                .orElseThrow(() -> new UnauthorizedGriAccessException("수정 권한이 없거나 GRI 항목이 없습니다."));
+    @Transactional
+    public GriDisclosureResponse update(Long id, Long memberId, String content, Long version) {
+        if (version != null) {
+            return updateIfVersionMatches(id, memberId, content, version);
+        }
+        // 항목 존재 여부 및 소유자 검증 (WHERE id = ? AND member_id = ?)
+        GriDisclosure disclosure = griDisclosureRepository.findByIdAndMemberId(id, memberId)
+                .orElseThrow(() -> UnauthorizedGriAccessException.UPDATE);
+        return applyContent(disclosure, content);
+    }
+
+    private GriDisclosureResponse updateIfVersionMatches(Long id, Long memberId, String content, Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        long writeStartedAt = System.nanoTime();
+        boolean completed = GriDisclosure.isFilled(content);
+        Integer contentSize = GriContentCodec.sizeOf(content);
+        String contentHash = GriContentCodec.hashOf(content);
+        // 완료 여부가 그대로인 수정(대부분의 자동 저장)은 UPDATE 한 번, 완료 여부가 바뀌는 수정만 조건을 바꿔 한 번 더
+        boolean wasCompleted = completed;
+        int updated = griDisclosureRepository.updateContentIfVersionMatches(
+                id, memberId, version, wasCompleted, content, contentSize, contentHash, completed, now);
+        if (updated == 0) {
+            wasCompleted = !completed;
+            updated = griDisclosureRepository.updateContentIfVersionMatches(
+                    id, memberId, version, wasCompleted, content, contentSize, contentHash, completed, now);
+        }
+        if (updated == 0) {
+            // 본문 없이 버전/해시만 확인하여 같은 내용 재시도(변경 없음)·버전 충돌(409)·권한 없음(403) 구분
+            GriDisclosureMetadata latest = griDisclosureRepository.findMetadataByIdAndMemberId(id, memberId)
+                    .orElseThrow(() -> UnauthorizedGriAccessException.UPDATE);
+            if (contentHash.equals(latest.getContentHash())) {
+                return toResponse(latest, memberId, content, contentSize);
+            }
+            throw new GriVersionConflictException("다른 사용자가 먼저 수정한 GRI 항목입니다. 최신 내용을 다시 조회해 주세요.");
+        }
+        // 응답/진행률 반영용 메타데이터만 조회 (content 미조회, 수정한 행은 이 트랜잭션이 잠그고 있음)
+        GriDisclosureMetadata disclosure = griDisclosureRepository.findMetadataByIdAndMemberId(id, memberId)
+                .orElseThrow(() -> UnauthorizedGriAccessException.UPDATE);
+        onWritten(memberId);
+        griProgressSummaryService.onChanged(memberId, disclosure.getGriCode(), wasCompleted, completed);
+        griProgressCache.onChanged(memberId, writeStartedAt, disclosure.getGriCode(), wasCompleted, completed);
+        griSearchService.onSaved(List.of(id));
+        // 수정 전 본문을 읽지 않으므로 DELTA 대신 수정된 content 를 DB 안에서 SNAPSHOT 이력으로 복사
+        griRevisionService.recordSnapshots(memberId, List.of(id));
+        griOutboxService.recordAll(GriChangeType.UPDATED, memberId, List.of(id));
+        return toResponse(disclosure, memberId, content, contentSize);
+    }
+
+    /**
+     * 메타데이터와 요청 content 로 응답 구성 (카탈로그 지표명/카테고리 반영)
+     */
+    private static GriDisclosureResponse toResponse(GriDisclosureMetadata disclosure, Long memberId, String content, Integer contentSize) {
+        GriCatalog catalog = GriCatalog.getInstance();
+        return GriDisclosureResponse.builder()
+                .id(disclosure.getId())
+                .griCode(disclosure.getGriCode())
+                .indicator(catalog.indicatorOf(disclosure.getGriCode(), disclosure.getIndicator()))
+                .category(catalog.categoryOf(disclosure.getGriCode(), disclosure.getCategory()))
+                .content(content)
+                .contentSize(contentSize)
+                .memberId(memberId)
+                .createdAt(disclosure.getCreatedAt())
+                .updatedAt(disclosure.getUpdatedAt())
+                .version(disclosure.getVersion())
+                .build();
+    }
+
+    /**
+     * [PATCH] GRI 항목 내용 부분 수정
+     *
+     * 자동 저장처럼 잦은 수정에서 전체 content 대신 변경된 부분(편집 목록)만 전달받아 반영합니다.
+     * 요청 version이 현재 버전과 다르면 GriVersionConflictException(409)을 발생시키며,
+     * 편집 범위가 content를 벗어나면 InvalidGriRequestException(400)을 발생시킵니다.
+     *
+     * @param id 수정할 항목 ID
+     * @param memberId 인증된 사용자 ID
+     * @param request 버전과 편집 목록
+     * @return 수정된 항목의 응답 DTO
+     */
+    @Transactional
+    public GriDisclosureResponse patch(Long id, Long memberId, GriContentPatchRequest request) {
+        if (request.getVersion() == null || request.getEdits() == null) {
+            throw new InvalidGriRequestException("version과 edits는 필수 값입니다.");
+        }
+        GriDisclosure disclosure = griDisclosureRepository.findByIdAndMemberId(id, memberId)
+                .orElseThrow(() -> UnauthorizedGriAccessException.UPDATE);
+        if (!request.getVersion().equals(disclosure.getVersion())) {
+            throw new GriVersionConflictException("다른 사용자가 먼저 수정한 GRI 항목입니다. 최신 내용을 다시 조회해 주세요.");
+        }
+        return applyContent(disclosure, applyEdits(disclosure.getContent(), request.getEdits()));
+    }
+
+    private GriDisclosureResponse applyContent(GriDisclosure disclosure, String content) {
+        // 내용이 같으면 버전/수정 시각을 바꾸지 않음 (자동 저장 반복 요청)
+        if (disclosure.hasSameContent(content)) {
+            return GriDisclosureResponse.fromEntity(disclosure);
+        }
         // 수정 내용 반영
+        boolean wasCompleted = disclosure.isCompleted();
+        String previousContent = disclosure.getContent();
+        long writeStartedAt = System.nanoTime();
         disclosure.updateContent(content);
+        // 버전/수정 시각이 반영된 응답을 위해 즉시 flush (@Version 충돌도 여기서 감지)
+        griDisclosureRepository.flush();
+        onWritten(disclosure.getMemberId());
+        // 진행률 요약/캐시에 완료 여부 변경 반영
+        griProgressSummaryService.onChanged(disclosure.getMemberId(), disclosure.getGriCode(), wasCompleted, disclosure.isCompleted());
+        griRevisionService.recordUpdated(disclosure, previousContent);
+        griOutboxService.record(GriChangeType.UPDATED, disclosure);
+        griProgressCache.onChanged(disclosure.getMemberId(), writeStartedAt, disclosure.getGriCode(), wasCompleted, disclosure.isCompleted());
+        griSearchService.onSaved(List.of(disclosure.getId()));
         return GriDisclosureResponse.fromEntity(disclosure);
     }
 
+    private static String applyEdits(String content, List<GriTextEdit> edits) {
+        StringBuilder buffer = new StringBuilder(content == null ? "" : content);
+        for (GriTextEdit edit : edits) {
+            int end = edit.getOffset() + edit.getDeleteCount();
+            if (edit.getOffset() < 0 || edit.getDeleteCount() < 0 || end > buffer.length()) {
+                throw new InvalidGriRequestException("편집 범위가 content 길이를 벗어났습니다.");
+            }
+            buffer.replace(edit.getOffset(), end, edit.getInsert() == null ? "" : edit.getInsert());
+        }
+        return buffer.toString();
+    }
+
     /**
      * [READ] GRI 코드로 단일 항목 조회
      *
@@ -76,10 +440,11 @@ public class GriDisclosureService {
      * @param griCode GRI 코드 (예: 401-1)
      * @return 해당 항목의 응답 DTO
      */
+    @Transactional(readOnly = true)
     public GriDisclosureResponse getByCode(Long memberId, String griCode) {
-        GriDisclosure disclosure = griDisclosureRepository.findByMemberIdAndGriCode(memberId, griCode)
-                .orElseThrow(() -> new GriNotFoundException("해당 코드의 GRI 항목이 없습니다."));
-        return GriDisclosureResponse.fromEntity(disclosure);
+        // content 가 지연 로딩이므로 엔티티 대신 한 번의 쿼리로 본문까지 조회
+        return griDisclosureJdbcRepository.findByMemberIdAndGriCode(memberId, griCode)
+                .orElseThrow(() -> GriNotFoundException.DISCLOSURE);
     }
 
     /**
@@ -88,33 +453,135 @@ public class GriDisclosureService {
      * 이 메서드는 특정 사용자가 등록한 모든 GRI 항목을 조회하여,
      * 각 엔티티를 GriDisclosureResponse DTO로 변환한 리스트를 반환합니다.
      * 이를 통해 클라이언트는 사용자별 GRI 공시 내역을 쉽게 확인할 수 있습니다.
+     * 같은 사용자의 동시 요청(여러 대시보드 탭)은 먼저 시작한 조회 결과를 함께 사용하며,
+     * 대기 중인 요청은 트랜잭션/커넥션을 잡지 않도록 조회하는 요청만 읽기 전용 트랜잭션을 엽니다.
      *
      * @param memberId 사용자 ID
      * @return GRI 응답 DTO 리스트
      */
     public List<GriDisclosureResponse> getAll(Long memberId) {
-        return griDisclosureRepository.findAllByMemberId(memberId).stream()
-                .map(GriDisclosureResponse::fromEntity)
-                .toList();
+        // 항목마다 content 지연 로딩 쿼리가 나가지 않도록 한 번의 쿼리로 본문까지 조회
+        return listLoads.execute(memberId, () -> readOnly(() -> griDisclosureJdbcRepository.findAllByMemberId(memberId)));
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    /**
+     * 사용자 항목 변경 후처리 (커밋 이후 읽기 복제본 대신 primary 조회, 진행 중인 목록 조회에 합류하지 않음)
+     */
+    private void onWritten(Long memberId) {
+        griReadYourWrites.markWritten(memberId);
+        AfterCommit.run(() -> listLoads.forget(memberId));
+    }
+
+    /**
+     * [READ] 단건 조회 응답의 ETag 계산
+     *
+     * content를 읽지 않고 ID와 수정 시각만 조회하여 ETag를 만듭니다.
+     * 클라이언트의 If-None-Match와 일치하면 항목을 다시 읽지 않고 304로 응답할 수 있습니다.
+     * 304 판단에만 사용하며, 200 응답의 ETag는 반환하는 항목으로 계산합니다(GriEtags.ofDisclosure).
+     *
+     * @param memberId 사용자 ID
+     * @param griCode GRI 코드 (예: 401-1)
+     * @return ETag (항목이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getEtag(Long memberId, String griCode) {
+        return griDisclosureRepository.findVersionByMemberIdAndGriCode(memberId, griCode)
+                .map(version -> GriEtags.ofDisclosure(version.getId(), version.getUpdatedAt()));
+    }
+
+    /**
+     * [READ] 전체 목록 조회 응답의 ETag 계산
+     *
+     * 사용자 항목 집합의 지문(항목 수, ID 합, 최종 수정 시각)만 집계하여 ETag를 만듭니다.
+     * 등록/삭제/수정 중 하나라도 발생하면 지문이 달라집니다.
+     * 304 판단에만 사용하며, 200 응답의 ETag는 반환하는 목록으로 계산합니다(GriEtags.ofMember).
+     *
+     * @param memberId 사용자 ID
+     * @return ETag
+     */
+    @Transactional(readOnly = true)
+    public String getListEtag(Long memberId) {
+        return GriEtags.ofMember(memberId, griDisclosureRepository.findFingerprintByMemberId(memberId));
+    }
+
+    /**
+     * [READ] 사용자(memberId)의 GRI 항목 커서 기반 페이지 조회
+     *
+     * griCode 오름차순으로 cursor 다음 항목부터 size 건을 조회합니다.
+     * OFFSET 없이 (memberId, griCode) 인덱스를 따라 이어서 읽으므로 페이지 위치와 무관하게 비용이 일정하며,
+     * fields로 선택한 필드만 조회하므로 content를 요청하지 않으면 본문을 전송하지 않습니다.
+     *
+     * @param memberId 사용자 ID
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @param fields 쉼표로 구분된 조회 필드 (null이면 content 제외 전체)
+     * @return 페이지 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public GriDisclosurePageResponse getPage(Long memberId, String cursor, int size, String fields) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidGriRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<GriDisclosureSummary> rows = griDisclosureRepository.findPage(
+                memberId, decodeCursor(cursor), size + 1, GriDisclosureField.parse(fields));
+        boolean hasNext = rows.size() > size;
+        List<GriDisclosureSummary> items = hasNext ? rows.subList(0, size) : rows;
+        return GriDisclosurePageResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(items.get(items.size() - 1).getGriCode()) : null)
+                .build();
+    }
+
+    private static String encodeCursor(String griCode) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(griCode.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidGriRequestException("유효하지 않은 cursor 입니다.");
+        }
     }
 
     /**
      * [DELETE] GRI 항목 삭제
      *
      * 이 메서드는 삭제 요청자가 해당 GRI 항목의 소유자인지 확인합니다.
-     * findById 후 filter로 소유자 검증을 수행하며, 소유자가 아니거나 항목이 없으면
+     * (id, memberId) 조건으로 content 없이 메타데이터만 조회하여 소유자를 검증하며, 소유자가 아니거나 항목이 없으면
      * UnauthorizedGriAccessException을 발생시켜 삭제 권한이 없음을 알립니다.
-     * 권한 검증 후 정상적으로 항목을 삭제합니다.
+     * 권한 검증 후 엔티티를 읽지 않고 (id, memberId) 조건 DELETE 한 문장으로 삭제합니다.
      *
      * @param id 삭제할 항목 ID
      * @param memberId 인증된 사용자 ID
      */
+    @Transactional
     public void delete(Long id, Long memberId) {
-        // 삭제 권한 확인: 소유자인지 검증
-        GriDisclosure disclosure = griDisclosureRepository.findById(id)
-                .filter(d -> d.getMemberId().equals(memberId)) // 권한 확인
-                .orElseThrow(() -> new UnauthorizedGriAccessException("삭제 권한이 없거나 GRI 항목이 없습니다."));
+        // 삭제 권한 확인: 소유자인지 검증 (진행률/변경 이벤트 반영용 메타데이터만 조회)
+        GriDisclosureMetadata disclosure = griDisclosureRepository.findMetadataByIdAndMemberId(id, memberId)
+                .orElseThrow(() -> UnauthorizedGriAccessException.DELETE);
         // 항목 삭제
-        griDisclosureRepository.delete(disclosure);
+        long writeStartedAt = System.nanoTime();
+        if (griDisclosureRepository.deleteByIdAndMemberId(id, memberId) == 0) {
+            // 조회 이후 다른 요청이 먼저 삭제함
+            throw UnauthorizedGriAccessException.DELETE;
+        }
+        onWritten(memberId);
+        // 진행률 요약/캐시에서 삭제 항목 제외
+        griProgressSummaryService.onChanged(memberId, disclosure.getGriCode(), disclosure.getCompleted(), null);
+        griOutboxService.recordDeleted(memberId, disclosure);
+        griProgressCache.onChanged(memberId, writeStartedAt, disclosure.getGriCode(), disclosure.getCompleted(), null);
+        griSearchService.onDeleted(id);
     }
 }
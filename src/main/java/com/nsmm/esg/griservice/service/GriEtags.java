@@ -0,0 +1,113 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriProgressBreakdown;
+import com.nsmm.esg.griservice.dto.GriProgressResponse;
+import com.nsmm.esg.griservice.repository.GriMemberFingerprint;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * GRI 조회 응답의 강한(strong) ETag 생성 유틸리티
+ *
+ * - 단건: 항목 ID + 수정 시각
+ * - 목록: 사용자별 항목 집합 지문 (항목 수, ID 합, 최종 수정 시각)
+ * - 진행률: 응답 값 자체 (캐시된 응답에서 DB 조회 없이 계산)
+ * - 단건/목록은 304 판단용 지문 조회와 200 응답 본문에서 같은 값이 나오도록 계산
+ *   (200 응답의 ETag 는 실제로 반환한 본문으로 계산하여 오래된 본문이 새 ETag 로 캐시되지 않도록 함)
+ */
+public final class GriEtags {
+
+    private GriEtags() {
+    }
+
+    public static String ofDisclosure(Long id, LocalDateTime updatedAt) {
+        return quote("d" + Long.toHexString(id) + "-" + toMicrosHex(updatedAt));
+    }
+
+    public static String ofDisclosure(GriDisclosureResponse disclosure) {
+        return ofDisclosure(disclosure.getId(), disclosure.getUpdatedAt());
+    }
+
+    public static String ofMember(Long memberId, GriMemberFingerprint fingerprint) {
+        return ofMember(memberId, fingerprint.getCount(), fingerprint.getIdSum(), fingerprint.getLastUpdatedAt());
+    }
+
+    /**
+     * 반환하는 목록 본문으로 계산한 목록 ETag (지문 조회와 같은 항목 수, ID 합, 최종 수정 시각)
+     */
+    public static String ofMember(Long memberId, List<GriDisclosureResponse> disclosures) {
+        long idSum = 0;
+        LocalDateTime lastUpdatedAt = null;
+        for (GriDisclosureResponse disclosure : disclosures) {
+            idSum += disclosure.getId();
+            if (disclosure.getUpdatedAt() != null
+                    && (lastUpdatedAt == null || disclosure.getUpdatedAt().isAfter(lastUpdatedAt))) {
+                lastUpdatedAt = disclosure.getUpdatedAt();
+            }
+        }
+        return ofMember(memberId, disclosures.size(), idSum, lastUpdatedAt);
+    }
+
+    /**
+     * If-None-Match 헤더에 ETag 가 포함되어 있는지 (쉼표 구분 목록, 약한 비교, *)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String ofMember(Long memberId, long count, long idSum, LocalDateTime lastUpdatedAt) {
+        return quote("m" + Long.toHexString(memberId)
+                + "-" + Long.toHexString(count)
+                + "-" + Long.toHexString(idSum)
+                + "-" + toMicrosHex(lastUpdatedAt));
+    }
+
+    public static String ofProgress(GriProgressResponse response) {
+        int hash = 1;
+        hash = 31 * hash + breakdownHash(response.getSeries());
+        hash = 31 * hash + breakdownHash(response.getCategories());
+        return quote("p" + Integer.toHexString(response.getTotalCount())
+                + "-" + Integer.toHexString(response.getCompletedCount())
+                + "-" + Integer.toHexString(hash));
+    }
+
+    private static int breakdownHash(List<GriProgressBreakdown> breakdowns) {
+        int hash = 1;
+        if (breakdowns == null) {
+            return hash;
+        }
+        for (GriProgressBreakdown breakdown : breakdowns) {
+            hash = 31 * hash + breakdown.getKey().hashCode();
+            hash = 31 * hash + breakdown.getCompletedCount();
+            hash = 31 * hash + breakdown.getIncompleteCount();
+        }
+        return hash;
+    }
+
+    private static String toMicrosHex(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+        return Long.toHexString(micros);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
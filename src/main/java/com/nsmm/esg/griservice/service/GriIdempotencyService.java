@@ -0,0 +1,116 @@
+package com.nsmm.esg.griservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.entity.GriIdempotencyKey;
+import com.nsmm.esg.griservice.exception.IdempotencyKeyReusedException;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * GRI 항목 등록 멱등성 키 처리 (Idempotency-Key 헤더)
+ *
+ * - claim: 등록 트랜잭션 시작 시 키를 선점하고, 이미 처리된 키면 저장된 응답 반환
+ * - complete: 등록 결과를 같은 트랜잭션에서 키에 저장
+ * - 같은 키의 동시 요청은 INSERT IGNORE 의 키 잠금 대기로 직렬화되어, 먼저 커밋된 결과를 그대로 반환
+ * - 만료(ttl)된 키는 주기적으로 나누어 삭제
+ */
+@Slf4j
+@Service
+public class GriIdempotencyService {
+
+    // 멱등성 키 최대 길이
+    private static final int MAX_KEY_LENGTH = 100;
+
+    // 만료 키 정리 시 한 번에 삭제할 최대 행 수
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final GriIdempotencyKeyRepository griIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    public GriIdempotencyService(GriIdempotencyKeyRepository griIdempotencyKeyRepository,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${gri.idempotency.ttl:24h}") Duration ttl) {
+        this.griIdempotencyKeyRepository = griIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 멱등성 키 선점
+     *
+     * @return 같은 키로 이미 처리된 요청의 응답 (처음 사용하는 키면 empty)
+     * @throws IdempotencyKeyReusedException 같은 키를 다른 요청 내용에 사용한 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<GriDisclosureResponse> claim(Long memberId, String key, String requestHash) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidGriRequestException("Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (griIdempotencyKeyRepository.insertIfAbsent(memberId, key, requestHash, now, now.plus(ttl)) == 1) {
+            return Optional.empty();
+        }
+        GriIdempotencyKey existing = griIdempotencyKeyRepository.findForUpdate(memberId, key)
+                .orElseThrow(() -> new IllegalStateException("멱등성 키를 찾을 수 없습니다: " + key));
+        if (existing.isExpired(now) || existing.getResponseBody() == null) {
+            existing.reclaim(requestHash, now, now.plus(ttl));
+            return Optional.empty();
+        }
+        if (!existing.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("이미 다른 요청에 사용한 Idempotency-Key 입니다: " + key);
+        }
+        return Optional.of(readResponse(existing.getResponseBody()));
+    }
+
+    /**
+     * 처리 결과를 멱등성 키에 저장 (claim 과 같은 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(Long memberId, String key, GriDisclosureResponse response) {
+        try {
+            griIdempotencyKeyRepository.updateResponse(memberId, key, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 저장 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gri.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        int total = 0;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    griIdempotencyKeyRepository.deleteExpired(now, PURGE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("[GRI 멱등성 키] 만료 키 삭제 {}건", total);
+        }
+    }
+
+    private GriDisclosureResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, GriDisclosureResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 복원 실패", e);
+        }
+    }
+}
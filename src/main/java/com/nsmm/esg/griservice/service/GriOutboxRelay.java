@@ -0,0 +1,143 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import com.nsmm.esg.griservice.event.GriEventPublisher;
+import com.nsmm.esg.griservice.repository.GriNamedLockRepository;
+import com.nsmm.esg.griservice.repository.GriOutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이: 커밋된 이벤트에 피드 시퀀스를 부여하고 batch-size 건씩 시퀀스 순으로 브로커에 발행
+ *
+ * - 이벤트 id 는 채번 순서라 늦게 커밋된 작은 id 가 생길 수 있으므로, 커밋되어 보이는 미부여 이벤트에
+ *   마지막 시퀀스 다음 값부터 한 트랜잭션씩 부여 (부여 순서 = 커밋 확인 순서, 빈틈 없음)
+ * - 변경 피드(/changes), 브로커 메시지, 인스턴스 간 검색 색인 동기화(GriSearchService)가 모두 이 피드 시퀀스를 사용하므로,
+ *   릴레이를 켠 인스턴스가 하나도 없으면 이벤트가 쌓이기만 하고 피드와 다른 인스턴스의 검색 색인이 더 이상 갱신되지 않음
+ * - 발행에 성공한 이벤트까지만 publishedAt 을 기록하고, 실패하면 다음 주기에 그 이벤트부터 재시도
+ *   (최소 한 번 전달, 소비자는 sequence 로 중복 제거)
+ * - 보관 기간(retention)이 지난 발행 완료 이벤트는 주기적으로 나누어 삭제
+ * - gri.outbox.relay.enabled=true 로 명시한 인스턴스에서만 생성 (기본 설정 파일도 false, 발행을 맡을 배포 하나에서만 켬)
+ * - 활성화한 인스턴스가 여럿이어도 MySQL 이름 잠금을 얻은 인스턴스 하나만 발행/정리
+ *   (동시 발행으로 인한 중복/순서 뒤바뀜 방지, 잠금을 가진 인스턴스가 죽으면 다른 인스턴스가 이어받음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gri.outbox.relay.enabled", havingValue = "true")
+public class GriOutboxRelay {
+
+    private static final String RELAY_LOCK_NAME = "gri_outbox_relay";
+    private static final String PURGE_LOCK_NAME = "gri_outbox_purge";
+
+    // 보관 기간 정리 시 한 번에 삭제할 최대 행 수
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final GriOutboxEventRepository griOutboxEventRepository;
+    private final GriEventPublisher griEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final GriNamedLockRepository griNamedLockRepository;
+    private final int batchSize;
+    private final Duration retention;
+
+    public GriOutboxRelay(GriOutboxEventRepository griOutboxEventRepository,
+                          GriEventPublisher griEventPublisher,
+                          TransactionTemplate transactionTemplate,
+                          GriNamedLockRepository griNamedLockRepository,
+                          @Value("${gri.outbox.relay.batch-size:100}") int batchSize,
+                          @Value("${gri.outbox.retention:7d}") Duration retention) {
+        this.griOutboxEventRepository = griOutboxEventRepository;
+        this.griEventPublisher = griEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.griNamedLockRepository = griNamedLockRepository;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${gri.outbox.relay.interval:1s}")
+    public void relay() {
+        if (!griNamedLockRepository.runExclusively(RELAY_LOCK_NAME, this::sequenceAndPublish)) {
+            log.debug("[GRI 아웃박스] 다른 인스턴스가 발행 중이므로 건너뜀");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gri.outbox.purge-interval:1h}")
+    public void purge() {
+        griNamedLockRepository.runExclusively(PURGE_LOCK_NAME, this::purgeExpired);
+    }
+
+    private void sequenceAndPublish() {
+        int assigned;
+        do {
+            assigned = assignFeedSeqs();
+        } while (assigned == batchSize);
+        publishUnpublished();
+    }
+
+    /**
+     * 피드 시퀀스 미부여 이벤트에 마지막 시퀀스 다음 값부터 채번 순으로 부여
+     * - 이름 잠금을 가진 릴레이만 부여하며, 잠금이 넘어가는 사이 겹쳐 부여되면 유니크 키로 실패하고 다음 주기에 재시도
+     *
+     * @return 부여한 이벤트 수
+     */
+    int assignFeedSeqs() {
+        return transactionTemplate.execute(status -> {
+            List<GriOutboxEvent> events = griOutboxEventRepository.findUnsequenced(PageRequest.of(0, batchSize));
+            long feedSeq = griOutboxEventRepository.findMaxFeedSeq();
+            for (GriOutboxEvent event : events) {
+                event.assignFeedSeq(++feedSeq);
+            }
+            return events.size();
+        });
+    }
+
+    private void publishUnpublished() {
+        List<GriOutboxEvent> events;
+        do {
+            events = griOutboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+            List<Long> published = new ArrayList<>(events.size());
+            try {
+                for (GriOutboxEvent event : events) {
+                    griEventPublisher.publish(GriChangeEvent.fromEntity(event));
+                    published.add(event.getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("[GRI 아웃박스] 발행 실패, 다음 주기에 재시도 (발행 완료={}건)", published.size(), e);
+                markPublished(published);
+                return;
+            }
+            markPublished(published);
+        } while (events.size() == batchSize);
+    }
+
+    private void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = transactionTemplate.execute(status -> griOutboxEventRepository.deletePublishedBefore(
+                    before, griOutboxEventRepository.findMaxFeedSeq(), PURGE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("[GRI 아웃박스] 보관 기간 경과 이벤트 삭제 {}건", total);
+        }
+    }
+
+    private void markPublished(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    griOutboxEventRepository.markPublished(ids, LocalDateTime.now()));
+        }
+    }
+}
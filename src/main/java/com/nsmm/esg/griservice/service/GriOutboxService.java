@@ -0,0 +1,106 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+import com.nsmm.esg.griservice.dto.GriChangeFeedResponse;
+import com.nsmm.esg.griservice.entity.GriChangeType;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriDisclosureMetadata;
+import com.nsmm.esg.griservice.repository.GriOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * GRI 변경 이벤트 아웃박스 기록 및 변경 피드 조회
+ *
+ * - 기록: GriDisclosureService 의 쓰기 트랜잭션 안에서 gri_outbox_event 에 추가
+ * - 피드: since 이후 이벤트를 피드 시퀀스 순으로 반환 (릴레이가 커밋 순서대로 부여한 시퀀스만 노출)
+ */
+@Service
+@RequiredArgsConstructor
+public class GriOutboxService {
+
+    // 변경 피드 1회 최대 이벤트 수
+    private static final int MAX_FEED_SIZE = 1000;
+
+    private final GriOutboxEventRepository griOutboxEventRepository;
+
+    /**
+     * 항목 하나의 등록/수정 이벤트 기록 (flush 이후 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(GriChangeType type, GriDisclosure disclosure) {
+        griOutboxEventRepository.save(GriOutboxEvent.builder()
+                .eventType(type)
+                .disclosureId(disclosure.getId())
+                .memberId(disclosure.getMemberId())
+                .griCode(disclosure.getGriCode())
+                .version(disclosure.getVersion())
+                .contentHash(disclosure.getContentHash())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 항목 삭제 이벤트 기록 (삭제 직전 메타데이터 기준)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Long memberId, GriDisclosureMetadata deleted) {
+        griOutboxEventRepository.save(GriOutboxEvent.builder()
+                .eventType(GriChangeType.DELETED)
+                .disclosureId(deleted.getId())
+                .memberId(memberId)
+                .griCode(deleted.getGriCode())
+                .version(deleted.getVersion())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 여러 항목의 현재 상태로 변경 이벤트 기록 (일괄 등록/버전 조건부 수정용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(GriChangeType type, Long memberId, Collection<Long> disclosureIds) {
+        if (!disclosureIds.isEmpty()) {
+            griOutboxEventRepository.insertForDisclosures(type.name(), memberId, disclosureIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 변경 피드 조회
+     *
+     * @param memberId 사용자 ID (null이면 전체 사용자)
+     * @param since    마지막으로 처리한 시퀀스 (처음이면 0)
+     */
+    @Transactional(readOnly = true)
+    public GriChangeFeedResponse getChanges(Long memberId, long since, int limit) {
+        if (since < 0) {
+            throw new InvalidGriRequestException("since는 0 이상이어야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_FEED_SIZE) {
+            throw new InvalidGriRequestException("limit는 1 이상 " + MAX_FEED_SIZE + " 이하만 가능합니다.");
+        }
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<GriOutboxEvent> rows = memberId == null
+                ? griOutboxEventRepository.findFeed(since, page)
+                : griOutboxEventRepository.findFeedByMemberId(memberId, since, page);
+        boolean hasMore = rows.size() > limit;
+        List<GriChangeEvent> events = rows.stream()
+                .limit(limit)
+                .map(GriChangeEvent::fromEntity)
+                .toList();
+        return GriChangeFeedResponse.builder()
+                .events(events)
+                .nextSince(events.isEmpty() ? since : events.get(events.size() - 1).getSequence())
+                .hasMore(hasMore)
+                .build();
+    }
+}
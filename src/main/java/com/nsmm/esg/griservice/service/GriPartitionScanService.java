@@ -0,0 +1,94 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriPartitionStatsResponse;
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * gri_disclosure 파티션 병렬 스캔 서비스 (관리자 전체 스캔용)
+ *
+ * - member_id 해시 파티셔닝(db/gri-disclosure-partitioning.sql) 시 파티션마다 별도 커넥션으로 나누어 병렬 실행
+ * - 파티셔닝하지 않은 테이블이면 테이블 전체를 한 번에 스캔
+ * - 파티션 작업마다 읽기 전용 트랜잭션이므로 읽기 복제본 라우팅 사용 시 복제본에서 조회
+ */
+@Slf4j
+@Service
+public class GriPartitionScanService {
+
+    private final GriDisclosureJdbcRepository griDisclosureJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 파티션 병렬 스캔용 (동시 실행 수 = 스캔이 동시에 점유하는 DB 커넥션 수)
+    private final ExecutorService scanExecutor;
+
+    public GriPartitionScanService(GriDisclosureJdbcRepository griDisclosureJdbcRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${gri.partition.scan.parallelism:4}") int parallelism) {
+        this.griDisclosureJdbcRepository = griDisclosureJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scanExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "gri-partition-scan-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanExecutor.shutdown();
+    }
+
+    /**
+     * 파티션별로 task 를 병렬 실행하고 결과를 파티션 정의 순서대로 반환
+     *
+     * @param task 파티션 이름을 받아 해당 파티션만 조회하는 작업 (파티셔닝하지 않은 테이블이면 null 로 한 번 호출)
+     */
+    public <T> List<T> scan(Function<String, T> task) {
+        List<String> partitions = readOnlyTransaction.execute(status -> griDisclosureJdbcRepository.findPartitionNames());
+        if (partitions == null || partitions.isEmpty()) {
+            return List.of(readOnlyTransaction.execute(status -> task.apply(null)));
+        }
+        List<CompletableFuture<T>> futures = partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> readOnlyTransaction.execute(status -> task.apply(partition)), scanExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 파티션별 항목 통계 (행 수, 사용자 수, 완료 항목 수, content 크기)
+     */
+    public GriPartitionStatsResponse getStats() {
+        long startedAt = System.nanoTime();
+        List<GriPartitionStatsResponse.Partition> partitions = scan(griDisclosureJdbcRepository::aggregatePartition);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[GRI 파티션 통계] 파티션={}, 소요={}ms", partitions.size(), elapsedMs);
+        return GriPartitionStatsResponse.builder()
+                .partitions(partitions)
+                .rowCount(partitions.stream().mapToLong(GriPartitionStatsResponse.Partition::getRowCount).sum())
+                .memberCount(partitions.stream().mapToLong(GriPartitionStatsResponse.Partition::getMemberCount).sum())
+                .completedCount(partitions.stream().mapToLong(GriPartitionStatsResponse.Partition::getCompletedCount).sum())
+                .contentBytes(partitions.stream().mapToLong(GriPartitionStatsResponse.Partition::getContentBytes).sum())
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+}
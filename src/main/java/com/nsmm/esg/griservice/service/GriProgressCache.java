@@ -0,0 +1,125 @@
+package com.nsmm.esg.griservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자(memberId)별 GRI 진행률 인메모리 캐시
+ *
+ * - 최대 크기(maximum-size)를 넘으면 Caffeine의 W-TinyLFU 정책으로 제거
+ * - 다른 인스턴스에서 발생한 변경은 알 수 없으므로 expire-after-write 경과 시 재집계
+ * - GriDisclosureService 의 등록/수정/삭제 시 변경분을 증분 반영하거나 무효화
+ * - 적중/미스/제거 지표는 cache.* 메트릭(cache=griProgress)으로 actuator에 노출
+ * - 캐시 미스 시 같은 사용자의 동시 조회는 집계 쿼리 한 번을 함께 사용 (SingleFlight)
+ */
+@Slf4j
+@Component
+public class GriProgressCache {
+
+    static final String CACHE_NAME = "griProgress";
+
+    private final Cache<Long, GriProgressTally> cache;
+
+    // 사용자별 최근 쓰기 커밋 시각 (집계 중 커밋된 쓰기 감지용, expire-after-write 동안만 유지)
+    private final Cache<Long, Long> recentCommits;
+
+    // 캐시 미스 시 사용자별 진행 중인 집계
+    private final SingleFlight<Long, GriProgressTally> loads = new SingleFlight<>();
+
+    public GriProgressCache(
+            MeterRegistry meterRegistry,
+            @Value("${gri.progress.cache.maximum-size:10000}") long maximumSize,
+            @Value("${gri.progress.cache.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.recentCommits = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 집계를 반환하고, 없으면 loader로 집계하여 저장
+     *
+     * - DB 조회(loader)는 Caffeine compute 블록 밖에서 실행
+     *   (compute 내부는 ConcurrentHashMap 모니터를 잡고 있어 가상 스레드가 캐리어 스레드에 고정됨)
+     * - 집계 도중 같은 사용자의 쓰기가 커밋되었다면 결과가 오래되었을 수 있으므로 캐시에 저장하지 않음
+     * - 같은 사용자의 동시 미스는 먼저 시작한 집계 결과를 함께 사용
+     */
+    GriProgressTally get(Long memberId, Function<Long, GriProgressTally> loader) {
+        GriProgressTally cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(memberId, () -> {
+            long loadStartedAt = System.nanoTime();
+            return putLoaded(memberId, loader.apply(memberId), loadStartedAt);
+        });
+    }
+
+    /**
+     * 캐시에 있는 사용자들의 집계만 반환 (없는 사용자는 결과에서 제외)
+     */
+    Map<Long, GriProgressTally> getAllPresent(Collection<Long> memberIds) {
+        return cache.getAllPresent(memberIds);
+    }
+
+    /**
+     * 캐시 밖에서 집계한 결과를 저장하고, 실제로 사용할 집계를 반환
+     *
+     * @param loadStartedAt 집계 쿼리 실행 직전의 System.nanoTime()
+     */
+    GriProgressTally putLoaded(Long memberId, GriProgressTally loaded, long loadStartedAt) {
+        Long lastCommittedAt = recentCommits.getIfPresent(memberId);
+        if (lastCommittedAt != null && lastCommittedAt >= loadStartedAt) {
+            return loaded;
+        }
+        GriProgressTally existing = cache.asMap().putIfAbsent(memberId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 항목 하나의 변경을 캐시에 반영
+     *
+     * - 트랜잭션이 진행 중이면 커밋 이후에 반영하고, 롤백되면 반영하지 않음
+     * - 캐시 값이 쓰기 시작(writeStartedAt) 이전에 집계된 경우에만 증분 반영
+     *   그 외에는 집계 결과에 이미 변경이 포함되었을 수 있으므로 무효화
+     *
+     * @param writeStartedAt 쓰기 쿼리 실행 직전의 System.nanoTime()
+     * @param before         변경 전 완료 여부 (신규 등록이면 null)
+     * @param after          변경 후 완료 여부 (삭제이면 null)
+     */
+    void onChanged(Long memberId, long writeStartedAt, String griCode, Boolean before, Boolean after) {
+        AfterCommit.run(() -> {
+            recentCommits.put(memberId, System.nanoTime());
+            loads.forget(memberId);
+            cache.asMap().computeIfPresent(memberId, (id, tally) ->
+                    tally.loadedAt() < writeStartedAt ? tally.apply(griCode, before, after) : null);
+        });
+    }
+
+    /**
+     * 사용자의 캐시 항목 무효화 (커밋 이후)
+     */
+    void evict(Long memberId) {
+        AfterCommit.run(() -> {
+            recentCommits.put(memberId, System.nanoTime());
+            loads.forget(memberId);
+            cache.invalidate(memberId);
+        });
+    }
+}
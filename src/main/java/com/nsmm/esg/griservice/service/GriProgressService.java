@@ -1,43 +1,145 @@
 package com.nsmm.esg.griservice.service;
 
 import com.nsmm.esg.griservice.dto.GriProgressResponse;
-import com.nsmm.esg.griservice.entity.GriDisclosure;
-import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
-import lombok.RequiredArgsConstructor;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GriProgressService {
 
-    private final GriDisclosureRepository griDisclosureRepository;
+    // 일괄 조회 1회 요청당 최대 사용자 수
+    private static final int MAX_BATCH_SIZE = 5000;
 
-    // GRI 표준 항목 총 개수 (고정)
-    private static final int TOTAL_GRI_COUNT = 119;
+    // 일괄 조회 시 집계 쿼리 1회의 IN 목록 최대 크기
+    private static final int BATCH_CHUNK_SIZE = 500;
 
+    private final GriProgressCache griProgressCache;
+    private final GriProgressSummaryService griProgressSummaryService;
+
+    // 일괄 조회 청크 병렬 실행용 (동시 실행 수 = 청크 쿼리가 동시에 점유하는 DB 커넥션 수)
+    private final ExecutorService batchExecutor;
+
+    public GriProgressService(GriProgressCache griProgressCache,
+                              GriProgressSummaryService griProgressSummaryService,
+                              @Value("${gri.progress.batch.parallelism:4}") int batchParallelism) {
+        this.griProgressCache = griProgressCache;
+        this.griProgressSummaryService = griProgressSummaryService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.batchExecutor = Executors.newFixedThreadPool(batchParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "gri-progress-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchExecutor.shutdown();
+    }
+
+    /**
+     * 사용자별 GRI 진행률 조회
+     * - 캐시에 집계가 있으면 DB 조회 없이 반환
+     * - 없으면 gri_progress_summary 를 PK로 조회하여 캐시에 저장
+     *   (요약이 아직 없는 사용자는 완료 코드 목록으로 GRI 카탈로그 기준 집계)
+     */
     public GriProgressResponse getProgress(Long memberId) {
-        List<GriDisclosure> disclosures = griDisclosureRepository.findAllByMemberId(memberId);
+        GriProgressResponse response = griProgressCache.get(memberId, this::loadTally).toResponse();
+        log.debug("[GRI 진행 현황] memberId={} 총합={}, 완료={}, 미완료={}, 완료율={}%",
+                memberId, response.getTotalCount(), response.getCompletedCount(),
+                response.getIncompleteCount(), response.getCompletedRate());
+        return response;
+    }
 
-        int completed = (int) disclosures.stream()
-                .filter(d -> d.getContent() != null && !d.getContent().trim().isEmpty())
-                .count();
+    /**
+     * 여러 사용자의 GRI 진행률 일괄 조회 (그룹 대시보드용)
+     * - 캐시에 있는 사용자는 DB 조회 없이 반환
+     * - 나머지는 BATCH_CHUNK_SIZE 단위로 나누어 청크당 요약 조회 1회(요약이 없는 사용자는 집계 쿼리 1회 추가)로
+     *   계산 후 캐시에 저장
+     * - 청크가 여러 개이면 전용 실행기에서 병렬로 조회
+     *
+     * @return memberId → 진행률 (요청 순서 유지, 중복 ID는 한 번만 포함)
+     */
+    public Map<Long, GriProgressResponse> getProgress(Collection<Long> memberIds) {
+        Set<Long> ids = validateBatch(memberIds);
 
-        int incomplete = TOTAL_GRI_COUNT - completed;
-        int completedRate = (int) ((completed * 100.0) / TOTAL_GRI_COUNT);
+        Map<Long, GriProgressTally> tallies = new HashMap<>(griProgressCache.getAllPresent(ids));
+        List<List<Long>> chunks = chunk(ids.stream().filter(id -> !tallies.containsKey(id)).toList());
+        if (chunks.size() == 1) {
+            tallies.putAll(loadTallies(chunks.get(0)));
+        } else if (!chunks.isEmpty()) {
+            List<CompletableFuture<Map<Long, GriProgressTally>>> futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> loadTallies(chunk), batchExecutor))
+                    .toList();
+            try {
+                futures.forEach(future -> tallies.putAll(future.join()));
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
 
-        // 로그 출력
-        log.info("📊 [GRI 진행 현황] memberId={} 총합={}, 완료={}, 미완료={}, 완료율={}%",
-                memberId, TOTAL_GRI_COUNT, completed, incomplete, completedRate);
+        Map<Long, GriProgressResponse> responses = new LinkedHashMap<>();
+        ids.forEach(id -> responses.put(id, tallies.get(id).toResponse()));
+        log.debug("[GRI 진행 현황 일괄] 사용자={}, 캐시 적중={}, 조회 청크={}",
+                ids.size(), ids.size() - chunks.stream().mapToInt(List::size).sum(), chunks.size());
+        return responses;
+    }
+
+    private GriProgressTally loadTally(Long memberId) {
+        return griProgressSummaryService.load(memberId);
+    }
+
+    /**
+     * 청크 하나의 사용자 집계를 조회하고 캐시에 저장
+     */
+    private Map<Long, GriProgressTally> loadTallies(List<Long> memberIds) {
+        long loadStartedAt = System.nanoTime();
+        Map<Long, GriProgressTally> tallies = new HashMap<>();
+        griProgressSummaryService.loadAll(memberIds).forEach((memberId, loaded) ->
+                tallies.put(memberId, griProgressCache.putLoaded(memberId, loaded, loadStartedAt)));
+        return tallies;
+    }
+
+    private static Set<Long> validateBatch(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            throw new InvalidGriRequestException("조회할 memberId가 없습니다.");
+        }
+        if (memberIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidGriRequestException("진행률 일괄 조회는 최대 " + MAX_BATCH_SIZE + "명까지 가능합니다.");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long memberId : memberIds) {
+            if (memberId == null) {
+                throw new InvalidGriRequestException("memberId는 null일 수 없습니다.");
+            }
+            ids.add(memberId);
+        }
+        return ids;
+    }
 
-        return GriProgressResponse.builder()
-                .totalCount(TOTAL_GRI_COUNT)
-                .completedCount(completed)
-                .incompleteCount(incomplete)
-                .completedRate(completedRate)
-                .build();
+    private static List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.entity.GriProgressSummary;
+import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
+import com.nsmm.esg.griservice.repository.GriNamedLockRepository;
+import com.nsmm.esg.griservice.repository.GriProgressSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * gri_progress_summary 주기 보정
+ *
+ * - 항목이 있는 사용자를 memberId 오름차순 키셋으로 batch-size 명씩 순회
+ * - 배치마다 요약 행과 항목 기준 집계(집계 쿼리 1회)를 잠금 없이 비교하고,
+ *   누락/불일치한 사용자만 요약 행을 잠근 뒤 다시 집계하여 보정
+ * - 보정 중 동시 쓰기는 요약 행 잠금으로 직렬화되므로 결과가 어긋나지 않음
+ * - 전체 사용자를 순회하므로 MySQL 이름 잠금을 얻은 인스턴스 하나만 실행 (나머지 인스턴스는 이번 주기 건너뜀)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gri.progress.summary.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class GriProgressSummaryReconciler {
+
+    private static final String LOCK_NAME = "gri_progress_summary_reconcile";
+
+    private final GriDisclosureRepository griDisclosureRepository;
+    private final GriProgressSummaryRepository griProgressSummaryRepository;
+    private final GriProgressSummaryService griProgressSummaryService;
+    private final GriProgressCache griProgressCache;
+    private final GriNamedLockRepository griNamedLockRepository;
+    private final int batchSize;
+
+    public GriProgressSummaryReconciler(GriDisclosureRepository griDisclosureRepository,
+                                        GriProgressSummaryRepository griProgressSummaryRepository,
+                                        GriProgressSummaryService griProgressSummaryService,
+                                        GriProgressCache griProgressCache,
+                                        GriNamedLockRepository griNamedLockRepository,
+                                        @Value("${gri.progress.summary.reconcile.batch-size:500}") int batchSize) {
+        this.griDisclosureRepository = griDisclosureRepository;
+        this.griProgressSummaryRepository = griProgressSummaryRepository;
+        this.griProgressSummaryService = griProgressSummaryService;
+        this.griProgressCache = griProgressCache;
+        this.griNamedLockRepository = griNamedLockRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${gri.progress.summary.reconcile.initial-delay:1m}",
+            fixedDelayString = "${gri.progress.summary.reconcile.interval:10m}")
+    public void reconcile() {
+        if (!griNamedLockRepository.runExclusively(LOCK_NAME, this::reconcileAll)) {
+            log.debug("[GRI 진행률 요약 보정] 다른 인스턴스가 실행 중이므로 건너뜀");
+        }
+    }
+
+    private void reconcileAll() {
+        long afterMemberId = Long.MIN_VALUE;
+        int checked = 0;
+        int repaired = 0;
+        while (true) {
+            List<Long> memberIds = griDisclosureRepository.findMemberIdsAfter(afterMemberId, PageRequest.of(0, batchSize));
+            if (memberIds.isEmpty()) {
+                break;
+            }
+            repaired += reconcileBatch(memberIds);
+            checked += memberIds.size();
+            afterMemberId = memberIds.get(memberIds.size() - 1);
+        }
+        if (repaired > 0) {
+            log.warn("[GRI 진행률 요약 보정] 확인={}, 보정={}", checked, repaired);
+        } else {
+            log.debug("[GRI 진행률 요약 보정] 확인={}, 불일치 없음", checked);
+        }
+    }
+
+    private int reconcileBatch(List<Long> memberIds) {
+        Map<Long, GriProgressSummary> summaries = griProgressSummaryRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(GriProgressSummary::getMemberId, Function.identity()));
+        Map<Long, GriProgressTally> expected = griProgressSummaryService.aggregateAll(memberIds);
+        int repaired = 0;
+        for (Long memberId : memberIds) {
+            GriProgressSummary summary = summaries.get(memberId);
+            GriProgressTally tally = expected.get(memberId);
+            if (summary != null && summary.matches(tally.completed(), tally.encodeSeriesCounts(), tally.encodeCategoryCounts())) {
+                continue;
+            }
+            // 비교 이후 커밋된 쓰기일 수 있으므로 잠근 상태에서 다시 집계하여 확인
+            if (griProgressSummaryService.refresh(memberId)) {
+                griProgressCache.evict(memberId);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
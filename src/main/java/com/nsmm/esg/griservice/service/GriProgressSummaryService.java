@@ -0,0 +1,150 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.entity.GriProgressSummary;
+import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
+import com.nsmm.esg.griservice.repository.GriMemberCompletedCode;
+import com.nsmm.esg.griservice.repository.GriProgressSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * gri_progress_summary(사용자별 진행률 요약) 갱신/조회
+ *
+ * - 단건 등록/수정/삭제: 같은 트랜잭션에서 요약 행을 잠그고 완료 여부 변경분(+1/-1)만 반영
+ * - 일괄 등록/수정: 트랜잭션의 첫 조회 전에 요약 행을 잠그고(lock), 반영 후 재집계
+ * - 요약 행이 없으면 현재 항목 기준으로 집계하여 생성
+ */
+@Service
+@RequiredArgsConstructor
+public class GriProgressSummaryService {
+
+    private final GriProgressSummaryRepository griProgressSummaryRepository;
+    private final GriDisclosureRepository griDisclosureRepository;
+
+    /**
+     * 항목 하나의 완료 여부 변경을 요약에 반영
+     * - 호출한 쓰기 트랜잭션 안에서, 항목 변경을 DB에 반영(flush)한 뒤 호출
+     *
+     * @param before 변경 전 완료 여부 (신규 등록이면 null)
+     * @param after  변경 후 완료 여부 (삭제이면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onChanged(Long memberId, String griCode, Boolean before, Boolean after) {
+        if (Boolean.TRUE.equals(before) == Boolean.TRUE.equals(after)) {
+            return; // 완료 여부가 바뀌지 않았으면 요약 변경 없음
+        }
+        Optional<GriProgressSummary> locked = griProgressSummaryRepository.findForUpdate(memberId);
+        if (locked.isEmpty()) {
+            // 요약이 없으면 이번 변경까지 포함한 현재 상태로 생성
+            if (insertIfAbsent(memberId, aggregate(memberId))) {
+                return;
+            }
+            // 다른 트랜잭션이 먼저 생성한 경우 (그 집계에는 이번 변경이 포함되지 않음)
+            locked = griProgressSummaryRepository.findForUpdate(memberId);
+        }
+        GriProgressSummary summary = locked.orElseThrow();
+        GriProgressTally next = toTally(summary).apply(griCode, before, after);
+        summary.update(next.completed(), next.encodeSeriesCounts(), next.encodeCategoryCounts());
+    }
+
+    /**
+     * 요약 행 잠금 (SELECT ... FOR UPDATE)
+     * - 재집계(refresh)하는 쓰기 트랜잭션에서 항목을 처음 조회하기 전에 호출
+     * - REPEATABLE READ 의 스냅샷은 첫 일반 조회 시점에 정해지므로, 잠금을 먼저 얻어야
+     *   이 사용자의 다른 쓰기가 모두 커밋된 뒤의 스냅샷으로 재집계함 (잠금 읽기는 스냅샷을 정하지 않음)
+     * - 요약 행이 없으면 해당 키 범위의 갭 잠금으로 다른 트랜잭션의 요약 행 생성을 대기시킴
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Long memberId) {
+        griProgressSummaryRepository.findForUpdate(memberId);
+    }
+
+    /**
+     * 요약 행을 잠근 뒤 현재 항목 기준으로 재집계하여 저장
+     *
+     * @return 기존 요약과 달라 갱신(또는 생성)했으면 true
+     */
+    @Transactional
+    public boolean refresh(Long memberId) {
+        Optional<GriProgressSummary> locked = griProgressSummaryRepository.findForUpdate(memberId);
+        GriProgressTally current = aggregate(memberId);
+        if (locked.isEmpty()) {
+            return insertIfAbsent(memberId, current);
+        }
+        GriProgressSummary summary = locked.get();
+        String seriesCounts = current.encodeSeriesCounts();
+        String categoryCounts = current.encodeCategoryCounts();
+        if (summary.matches(current.completed(), seriesCounts, categoryCounts)) {
+            return false;
+        }
+        summary.update(current.completed(), seriesCounts, categoryCounts);
+        return true;
+    }
+
+    /**
+     * 요약 조회 (PK 조회 한 번), 요약이 없는 사용자는 항목 기준으로 집계
+     */
+    GriProgressTally load(Long memberId) {
+        return griProgressSummaryRepository.findById(memberId)
+                .map(GriProgressSummaryService::toTally)
+                .orElseGet(() -> aggregate(memberId));
+    }
+
+    /**
+     * 여러 사용자의 요약 조회, 요약이 없는 사용자는 집계 쿼리 한 번으로 계산
+     * - 반환 맵에는 요청한 모든 사용자가 포함됨
+     */
+    Map<Long, GriProgressTally> loadAll(Collection<Long> memberIds) {
+        Map<Long, GriProgressTally> tallies = new HashMap<>();
+        for (GriProgressSummary summary : griProgressSummaryRepository.findAllById(memberIds)) {
+            tallies.put(summary.getMemberId(), toTally(summary));
+        }
+        List<Long> missing = memberIds.stream().filter(id -> !tallies.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            tallies.putAll(aggregateAll(missing));
+        }
+        return tallies;
+    }
+
+    /**
+     * 항목 기준 집계 (요약 테이블 미사용)
+     */
+    GriProgressTally aggregate(Long memberId) {
+        return GriProgressTally.from(GriCatalog.getInstance(), griDisclosureRepository.findCompletedGriCodesByMemberId(memberId));
+    }
+
+    /**
+     * 여러 사용자의 항목 기준 집계 (집계 쿼리 1회, 완료 항목이 없는 사용자도 포함)
+     */
+    Map<Long, GriProgressTally> aggregateAll(Collection<Long> memberIds) {
+        Map<Long, List<String>> completedCodes = new HashMap<>();
+        for (GriMemberCompletedCode row : griDisclosureRepository.findCompletedGriCodesByMemberIdIn(memberIds)) {
+            completedCodes.computeIfAbsent(row.getMemberId(), id -> new ArrayList<>()).add(row.getGriCode());
+        }
+        GriCatalog catalog = GriCatalog.getInstance();
+        Map<Long, GriProgressTally> tallies = new HashMap<>();
+        for (Long memberId : memberIds) {
+            tallies.put(memberId, GriProgressTally.from(catalog, completedCodes.getOrDefault(memberId, List.of())));
+        }
+        return tallies;
+    }
+
+    static GriProgressTally toTally(GriProgressSummary summary) {
+        return GriProgressTally.fromSummary(GriCatalog.getInstance(), summary.getSeriesCounts(), summary.getCategoryCounts());
+    }
+
+    private boolean insertIfAbsent(Long memberId, GriProgressTally tally) {
+        return griProgressSummaryRepository.insertIfAbsent(
+                memberId, tally.completed(), tally.encodeSeriesCounts(), tally.encodeCategoryCounts()) > 0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.catalog.GriStandard;
+import com.nsmm.esg.griservice.dto.GriProgressBreakdown;
+import com.nsmm.esg.griservice.dto.GriProgressResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 사용자별 GRI 진행률 집계 값 (불변 객체)
+ *
+ * - 카탈로그 시리즈/카테고리 인덱스별 완료 항목 수만 보관 (미완료 = 카탈로그 항목 수 - 완료)
+ * - 카탈로그에 없는 코드는 집계에서 제외
+ * - 등록/수정/삭제 시 apply()로 변경분만 반영한 새 인스턴스를 생성
+ * - loadedAt: 집계 쿼리가 끝난 시점(System.nanoTime), 캐시 증분 반영 가능 여부 판단에 사용
+ * - gri_progress_summary 저장 형식: "키:완료 수" 를 쉼표로 연결 (완료 0인 키는 생략, 예: "2:10,401:1")
+ */
+final class GriProgressTally {
+
+    private final GriCatalog catalog;
+    private final int completed;
+    private final int[] seriesCompleted;
+    private final int[] categoryCompleted;
+    private final long loadedAt;
+    private GriProgressResponse response; // toResponse() 결과 재사용 (불변 값이므로 경합 시 중복 생성만 발생)
+
+    private GriProgressTally(GriCatalog catalog, int completed, int[] seriesCompleted, int[] categoryCompleted, long loadedAt) {
+        this.catalog = catalog;
+        this.completed = completed;
+        this.seriesCompleted = seriesCompleted;
+        this.categoryCompleted = categoryCompleted;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * 완료된 GRI 코드 목록으로부터 생성
+     */
+    static GriProgressTally from(GriCatalog catalog, List<String> completedCodes) {
+        int completed = 0;
+        int[] series = new int[catalog.seriesKeys().size()];
+        int[] categories = new int[catalog.categoryKeys().size()];
+        for (String code : completedCodes) {
+            GriStandard standard = catalog.get(code);
+            if (standard == null) {
+                continue;
+            }
+            completed++;
+            series[standard.getSeriesIndex()]++;
+            categories[standard.getCategoryIndex()]++;
+        }
+        return new GriProgressTally(catalog, completed, series, categories, System.nanoTime());
+    }
+
+    /**
+     * gri_progress_summary 에 저장된 시리즈/카테고리별 완료 수로부터 생성
+     * - 카탈로그에 없는 키는 무시 (재집계 시 정리됨)
+     */
+    static GriProgressTally fromSummary(GriCatalog catalog, String seriesCounts, String categoryCounts) {
+        int[] series = new int[catalog.seriesKeys().size()];
+        int[] categories = new int[catalog.categoryKeys().size()];
+        decode(seriesCounts, series, catalog::seriesIndexOf);
+        decode(categoryCounts, categories, catalog::categoryIndexOf);
+        int completed = 0;
+        for (int count : series) {
+            completed += count;
+        }
+        return new GriProgressTally(catalog, completed, series, categories, System.nanoTime());
+    }
+
+    String encodeSeriesCounts() {
+        return encode(catalog.seriesKeys(), seriesCompleted);
+    }
+
+    String encodeCategoryCounts() {
+        return encode(catalog.categoryKeys(), categoryCompleted);
+    }
+
+    /**
+     * 항목 하나의 변경분을 반영한 새 집계 생성
+     *
+     * @param before 변경 전 완료 여부 (신규 등록이면 null)
+     * @param after  변경 후 완료 여부 (삭제이면 null)
+     */
+    GriProgressTally apply(String griCode, Boolean before, Boolean after) {
+        int delta = (Boolean.TRUE.equals(after) ? 1 : 0) - (Boolean.TRUE.equals(before) ? 1 : 0);
+        GriStandard standard = catalog.get(griCode);
+        if (delta == 0 || standard == null) {
+            return this;
+        }
+        int[] series = seriesCompleted.clone();
+        int[] categories = categoryCompleted.clone();
+        series[standard.getSeriesIndex()] += delta;
+        categories[standard.getCategoryIndex()] += delta;
+        return new GriProgressTally(catalog, completed + delta, series, categories, loadedAt);
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    int completed() {
+        return completed;
+    }
+
+    GriProgressResponse toResponse() {
+        GriProgressResponse cached = response;
+        if (cached != null) {
+            return cached;
+        }
+        int totalCount = catalog.size();
+        cached = GriProgressResponse.builder()
+                .totalCount(totalCount)
+                .completedCount(completed)
+                .incompleteCount(totalCount - completed)
+                .completedRate((int) ((completed * 100.0) / totalCount))
+                .series(toSeriesBreakdowns())
+                .categories(toCategoryBreakdowns())
+                .build();
+        response = cached;
+        return cached;
+    }
+
+    private List<GriProgressBreakdown> toSeriesBreakdowns() {
+        List<String> keys = catalog.seriesKeys();
+        List<GriProgressBreakdown> breakdowns = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            breakdowns.add(breakdown(keys.get(i), seriesCompleted[i], catalog.seriesSize(i)));
+        }
+        return Collections.unmodifiableList(breakdowns);
+    }
+
+    private List<GriProgressBreakdown> toCategoryBreakdowns() {
+        List<String> keys = catalog.categoryKeys();
+        List<GriProgressBreakdown> breakdowns = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            breakdowns.add(breakdown(keys.get(i), categoryCompleted[i], catalog.categorySize(i)));
+        }
+        return Collections.unmodifiableList(breakdowns);
+    }
+
+    private static String encode(List<String> keys, int[] counts) {
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] <= 0) {
+                continue;
+            }
+            if (encoded.length() > 0) {
+                encoded.append(',');
+            }
+            encoded.append(keys.get(i)).append(':').append(counts[i]);
+        }
+        return encoded.toString();
+    }
+
+    private static void decode(String encoded, int[] target, ToIntFunction<String> indexOf) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String entry : encoded.split(",")) {
+            int colon = entry.lastIndexOf(':');
+            int index = colon > 0 ? indexOf.applyAsInt(entry.substring(0, colon)) : -1;
+            if (index >= 0) {
+                target[index] = Integer.parseInt(entry.substring(colon + 1));
+            }
+        }
+    }
+
+    private static GriProgressBreakdown breakdown(String key, int completed, int total) {
+        return GriProgressBreakdown.builder()
+                .key(key)
+                .completedCount(completed)
+                .incompleteCount(total - completed)
+                .build();
+    }
+}
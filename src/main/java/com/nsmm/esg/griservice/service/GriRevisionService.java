@@ -0,0 +1,208 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriRevisionPageResponse;
+import com.nsmm.esg.griservice.dto.GriRevisionResponse;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.entity.GriDisclosureRevision;
+import com.nsmm.esg.griservice.entity.GriRevisionType;
+import com.nsmm.esg.griservice.exception.GriNotFoundException;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriDisclosureRevisionRepository;
+import com.nsmm.esg.griservice.repository.GriRevisionMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * GRI 공시 항목 content 이력 기록/조회
+ *
+ * - 수정 시 직전 content 대비 변경 구간만 DELTA 로 추가 (앞/뒤 공통 부분을 제외한 가운데만 저장)
+ * - SNAPSHOT_INTERVAL 버전마다, 그리고 신규 등록 시 SNAPSHOT 을 추가하여 재구성 비용을 제한
+ * - 일괄 수정은 수정 직전 조회한 content 로 DELTA 를 만듦 (현재 content 전체를 복사하지 않음)
+ * - 버전 조건부 수정(PUT)은 수정 전 본문을 읽지 않으므로 수정된 content 를 DB 안에서 SNAPSHOT 으로 복사
+ * - 일괄 등록의 신규 항목은 DB 안에서 현재 content 를 첫 SNAPSHOT 으로 복사
+ * - 특정 버전 조회: 가장 가까운 이전 SNAPSHOT 부터 DELTA 를 순서대로 적용 (최대 SNAPSHOT_INTERVAL 건)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GriRevisionService {
+
+    // 스냅샷 주기 (버전 수), 특정 버전 재구성 시 적용하는 DELTA 수의 상한
+    static final long SNAPSHOT_INTERVAL = 20;
+
+    // 이력 목록 1회 최대 항목 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final GriDisclosureRevisionRepository griDisclosureRevisionRepository;
+
+    /**
+     * 신규 등록 항목의 첫 이력 (SNAPSHOT)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(GriDisclosure disclosure) {
+        griDisclosureRevisionRepository.save(
+                snapshot(disclosure.getId(), disclosure.getMemberId(), disclosure.getVersion(), disclosure.getContent()));
+    }
+
+    /**
+     * 수정된 항목의 이력 추가 (flush 이후 호출, disclosure 는 새 버전/내용 반영 상태)
+     *
+     * @param previousContent 수정 직전 content
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(GriDisclosure disclosure, String previousContent) {
+        recordUpdated(disclosure.getId(), disclosure.getMemberId(), disclosure.getVersion(), previousContent, disclosure.getContent());
+    }
+
+    /**
+     * 엔티티를 읽지 않고 수정한 항목의 이력 추가 (일괄 수정)
+     *
+     * @param version         수정 후 버전
+     * @param previousContent 수정 직전 content (수정 전 버전과 함께 조회한 값)
+     * @param content         수정 후 content
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Long disclosureId, Long memberId, long version, String previousContent, String content) {
+        griDisclosureRevisionRepository.save(revision(disclosureId, memberId, version, previousContent, content));
+    }
+
+    /**
+     * 항목들의 현재 content 를 SNAPSHOT 으로 추가 (DB 안에서 복사, 애플리케이션으로 본문을 읽지 않음)
+     * - 일괄 등록의 신규 항목, 버전 조건부 수정(PUT)으로 수정된 항목
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSnapshots(Long memberId, Collection<Long> disclosureIds) {
+        if (!disclosureIds.isEmpty()) {
+            griDisclosureRevisionRepository.insertSnapshots(memberId, disclosureIds);
+        }
+    }
+
+    /**
+     * 이력 목록 (최신 버전부터, content 제외)
+     *
+     * @param beforeVersion 이 버전 미만만 조회 (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public GriRevisionPageResponse getRevisions(Long disclosureId, Long memberId, Long beforeVersion, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidGriRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하만 가능합니다.");
+        }
+        List<GriRevisionMetadata> rows = griDisclosureRevisionRepository.findMetadata(
+                disclosureId, memberId, beforeVersion == null ? Long.MAX_VALUE : beforeVersion, PageRequest.of(0, size + 1));
+        if (rows.isEmpty() && beforeVersion == null) {
+            throw GriNotFoundException.expected("GRI 항목 이력을 찾을 수 없습니다. id=" + disclosureId);
+        }
+        boolean hasNext = rows.size() > size;
+        List<GriRevisionPageResponse.Item> items = rows.stream()
+                .limit(size)
+                .map(GriRevisionPageResponse.Item::from)
+                .toList();
+        return GriRevisionPageResponse.builder()
+                .items(items)
+                .nextBeforeVersion(hasNext ? items.get(items.size() - 1).getVersion() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 특정 버전 content 재구성
+     */
+    @Transactional(readOnly = true)
+    public GriRevisionResponse getRevision(Long disclosureId, Long memberId, Long version) {
+        Long snapshotVersion = griDisclosureRevisionRepository.findSnapshotVersionAtOrBefore(disclosureId, memberId, version)
+                .orElseThrow(() -> GriNotFoundException.expected("GRI 항목 이력을 찾을 수 없습니다. id=" + disclosureId + ", version=" + version));
+        List<GriDisclosureRevision> chain = griDisclosureRevisionRepository
+                .findByDisclosureIdAndVersionBetweenOrderByVersion(disclosureId, snapshotVersion, version);
+
+        String content = null;
+        long expectedVersion = snapshotVersion;
+        for (GriDisclosureRevision revision : chain) {
+            if (revision.getVersion() != expectedVersion) {
+                break; // 중간 버전 누락
+            }
+            content = revision.applyTo(content);
+            expectedVersion++;
+        }
+        if (expectedVersion != version + 1) {
+            throw GriNotFoundException.expected("GRI 항목 이력을 찾을 수 없습니다. id=" + disclosureId + ", version=" + version);
+        }
+        GriDisclosureRevision target = chain.get(chain.size() - 1);
+        // 압축 저장 마이그레이션 전 행에서 복사한 스냅샷은 해시가 없을 수 있음
+        if (target.getContentHash() != null && !target.getContentHash().equals(GriContentCodec.hashOf(content))) {
+            log.error("[GRI 이력] 재구성 결과 해시 불일치 id={}, version={}", disclosureId, version);
+            throw new IllegalStateException("GRI 항목 이력을 재구성할 수 없습니다.");
+        }
+        return GriRevisionResponse.builder()
+                .disclosureId(disclosureId)
+                .version(version)
+                .content(content)
+                .contentSize(target.getContentSize())
+                .contentHash(target.getContentHash())
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 수정 후 버전의 이력 (SNAPSHOT_INTERVAL 버전마다, 또는 이전/현재 content 가 없으면 SNAPSHOT, 그 외 DELTA)
+     */
+    static GriDisclosureRevision revision(Long disclosureId, Long memberId, long version, String previous, String content) {
+        if (version % SNAPSHOT_INTERVAL == 0 || content == null || previous == null) {
+            return snapshot(disclosureId, memberId, version, content);
+        }
+        return delta(disclosureId, memberId, version, previous, content);
+    }
+
+    static GriDisclosureRevision snapshot(Long disclosureId, Long memberId, long version, String content) {
+        return GriDisclosureRevision.builder()
+                .disclosureId(disclosureId)
+                .memberId(memberId)
+                .version(version)
+                .type(GriRevisionType.SNAPSHOT)
+                .payload(content)
+                .contentSize(GriContentCodec.sizeOf(content))
+                .contentHash(GriContentCodec.hashOf(content))
+                .build();
+    }
+
+    /**
+     * 직전 content 대비 변경 구간 계산 (앞/뒤 공통 부분 제외)
+     * - 서로게이트 쌍이 경계에서 나뉘지 않도록 공통 길이를 조정
+     */
+    static GriDisclosureRevision delta(Long disclosureId, Long memberId, long version, String previous, String content) {
+        int max = Math.min(previous.length(), content.length());
+        int prefix = 0;
+        while (prefix < max && previous.charAt(prefix) == content.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix > 0 && Character.isHighSurrogate(content.charAt(prefix - 1))) {
+            prefix--;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && previous.charAt(previous.length() - 1 - suffix) == content.charAt(content.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(content.charAt(content.length() - suffix))) {
+            suffix--;
+        }
+        return GriDisclosureRevision.builder()
+                .disclosureId(disclosureId)
+                .memberId(memberId)
+                .version(version)
+                .type(GriRevisionType.DELTA)
+                .prefixLength(prefix)
+                .suffixLength(suffix)
+                .payload(content.substring(prefix, content.length() - suffix))
+                .contentSize(GriContentCodec.sizeOf(content))
+                .contentHash(GriContentCodec.hashOf(content))
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.dto.GriSearchResponse;
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import com.nsmm.esg.griservice.repository.GriOutboxEventRepository;
+import com.nsmm.esg.griservice.search.GriSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GRI 공시 항목 전문 검색
+ *
+ * - 검색: 로컬 Lucene 색인(GriSearchIndex)만 조회하며 DB의 content 컬럼은 읽지 않음
+ * - 동기화: 등록/수정/삭제 트랜잭션 커밋 이후 변경된 항목 ID를 색인 전용 스레드로 전달하고,
+ *   색인 스레드가 DB에서 최신 값을 다시 읽어 색인 (커밋 순서와 무관하게 최종 상태로 수렴)
+ * - 다른 인스턴스의 변경: 모든 인스턴스가 변경 피드(gri_outbox_event.feed_seq)를 주기적으로 읽어
+ *   같은 방식으로 반영하고, 반영한 시퀀스를 색인 커밋에 함께 저장
+ *   (피드 시퀀스는 아웃박스 릴레이가 부여하므로, 릴레이를 켠 인스턴스가 없으면 다른 인스턴스의 변경은 반영되지 않음)
+ * - 기동 시 저장된 시퀀스부터 이어서 반영하며, 시퀀스가 없거나 그 사이 이벤트가 보관 기간 정리로 지워졌으면 전체 재색인
+ * - 모든 색인 쓰기는 색인 전용 스레드 하나에서 수행 (나중에 읽은 DB 값이 항상 나중에 쓰이도록)
+ */
+@Slf4j
+@Service
+public class GriSearchService {
+
+    // 검색 결과 1회 최대 항목 수
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    // 검색어 최대 길이
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // 변경 피드 1회 조회 이벤트 수
+    private static final int FEED_BATCH_SIZE = 500;
+
+    private final GriSearchIndex griSearchIndex;
+    private final GriDisclosureJdbcRepository griDisclosureJdbcRepository;
+    private final GriOutboxEventRepository griOutboxEventRepository;
+
+    // 색인 쓰기 전용 스레드 (요청 스레드의 응답 지연 방지)
+    private final ExecutorService indexExecutor;
+
+    // 변경 피드 반영 작업이 색인 스레드에 대기 중인지 (주기마다 중복 등록 방지)
+    private final AtomicBoolean feedPending = new AtomicBoolean();
+
+    public GriSearchService(GriSearchIndex griSearchIndex,
+                            GriDisclosureJdbcRepository griDisclosureJdbcRepository,
+                            GriOutboxEventRepository griOutboxEventRepository) {
+        this.griSearchIndex = griSearchIndex;
+        this.griDisclosureJdbcRepository = griDisclosureJdbcRepository;
+        this.griOutboxEventRepository = griOutboxEventRepository;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gri-search-index-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdown();
+    }
+
+    /**
+     * 관련도 순 전문 검색 (content, indicator 대상)
+     *
+     * @param memberId 사용자 ID (null이면 전체 사용자, 관리자 전용)
+     * @param query    검색어
+     * @param size     최대 결과 수
+     */
+    public GriSearchResponse search(Long memberId, String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidGriRequestException("검색어는 필수 값입니다.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidGriRequestException("검색어는 최대 " + MAX_QUERY_LENGTH + "자까지 가능합니다.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidGriRequestException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하만 가능합니다.");
+        }
+        return griSearchIndex.search(memberId, query.trim(), size);
+    }
+
+    /**
+     * 등록/수정된 항목을 커밋 이후 색인에 반영
+     */
+    void onSaved(Collection<Long> ids) {
+        List<Long> snapshot = List.copyOf(ids);
+        AfterCommit.run(() -> indexExecutor.execute(() -> sync(snapshot)));
+    }
+
+    /**
+     * 삭제된 항목을 커밋 이후 색인에서 제거
+     */
+    void onDeleted(Long id) {
+        onSaved(List.of(id)); // 재조회 결과가 없으면 색인에서 제거됨
+    }
+
+    /**
+     * 전체 재색인 요청 (색인 스레드에서 비동기로 수행)
+     */
+    public void requestReindex() {
+        indexExecutor.execute(this::reindex);
+    }
+
+    /**
+     * 기동 시 저장된 피드 시퀀스부터 밀린 변경 반영 (필요하면 전체 재색인)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void catchUp() {
+        requestFeedSync();
+    }
+
+    @Scheduled(initialDelayString = "${gri.search.feed-interval:1s}", fixedDelayString = "${gri.search.feed-interval:1s}")
+    void pollFeed() {
+        requestFeedSync();
+    }
+
+    private void requestFeedSync() {
+        if (feedPending.compareAndSet(false, true)) {
+            indexExecutor.execute(() -> {
+                feedPending.set(false);
+                applyFeed();
+            });
+        }
+    }
+
+    /**
+     * 색인에 반영한 시퀀스 이후의 변경 피드를 읽어 항목별 최신 값으로 색인
+     * - 색인에 쓴 뒤에만 반영 시퀀스를 올리므로, 실패하면 다음 주기에 같은 위치부터 다시 반영
+     */
+    private void applyFeed() {
+        try {
+            Long applied = griSearchIndex.getAppliedFeedSeq();
+            if (applied == null || isPurgedAfter(applied)) {
+                reindex();
+                return;
+            }
+            List<GriOutboxEvent> events;
+            do {
+                events = griOutboxEventRepository.findFeed(applied, PageRequest.of(0, FEED_BATCH_SIZE));
+                if (events.isEmpty()) {
+                    break;
+                }
+                Set<Long> ids = new LinkedHashSet<>();
+                events.forEach(event -> ids.add(event.getDisclosureId()));
+                indexLatest(List.copyOf(ids));
+                applied = events.get(events.size() - 1).getFeedSeq();
+                griSearchIndex.setAppliedFeedSeq(applied);
+            } while (events.size() == FEED_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("[GRI 검색 색인] 변경 피드 반영 실패, 다음 주기에 재시도 (반영 시퀀스={})", griSearchIndex.getAppliedFeedSeq(), e);
+        }
+    }
+
+    /**
+     * 반영 시퀀스 다음 이벤트가 보관 기간 정리로 이미 지워졌는지 (이어서 반영할 수 없으면 전체 재색인)
+     */
+    private boolean isPurgedAfter(long applied) {
+        return griOutboxEventRepository.findMinFeedSeq()
+                .map(oldest -> oldest > applied + 1)
+                .orElse(false);
+    }
+
+    private void sync(List<Long> ids) {
+        try {
+            indexLatest(ids);
+        } catch (RuntimeException e) {
+            log.warn("[GRI 검색 색인] 동기화 실패 ids={} (변경 피드 반영 시 다시 색인)", ids, e);
+        }
+    }
+
+    private void indexLatest(List<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (GriDisclosureResponse disclosure : griDisclosureJdbcRepository.findAllByIds(ids)) {
+            griSearchIndex.index(disclosure);
+            missing.remove(disclosure.getId());
+        }
+        if (!missing.isEmpty()) {
+            griSearchIndex.delete(missing);
+        }
+        griSearchIndex.refresh();
+    }
+
+    /**
+     * 전체 재색인
+     * - 스트리밍 전에 마지막 피드 시퀀스를 읽어 두므로, 재색인 중 커밋된 변경은 이후 피드 반영으로 다시 색인됨
+     */
+    private void reindex() {
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger count = new AtomicInteger();
+        try {
+            long feedSeq = griOutboxEventRepository.findMaxFeedSeq();
+            griSearchIndex.resetAppliedFeedSeq();
+            griSearchIndex.deleteAll();
+            griDisclosureJdbcRepository.streamAll(null, disclosure -> {
+                griSearchIndex.index(disclosure);
+                count.incrementAndGet();
+            });
+            griSearchIndex.refresh();
+            griSearchIndex.setAppliedFeedSeq(feedSeq);
+            griSearchIndex.commit();
+            log.info("[GRI 검색 색인] 재색인 완료 문서 수={}, 반영 피드 시퀀스={}, 소요={}ms",
+                    count.get(), feedSeq, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("[GRI 검색 색인] 재색인 실패 (색인된 문서 수={})", count.get(), e);
+        }
+    }
+}
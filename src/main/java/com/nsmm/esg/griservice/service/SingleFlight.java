@@ -0,0 +1,57 @@
+package com.nsmm.esg.griservice.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회 요청 병합 (single-flight)
+ *
+ * - 먼저 들어온 요청만 loader 를 실행하고, 실행 중에 들어온 같은 키의 요청은 그 결과를 함께 받음
+ * - 실행이 끝나면 키를 제거하므로 결과를 캐시하지 않음 (끝난 뒤 들어온 요청은 다시 조회)
+ * - 쓰기 커밋 이후 forget 을 호출하면 이후 요청은 진행 중인 조회에 합류하지 않고 새로 조회
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 진행 중인 조회에 이후 요청이 합류하지 않도록 분리
+     */
+    void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- GRI 카탈로그 도입에 따른 gri_disclosure 스키마/데이터 정리 (MySQL, 수동 실행)
+-- - indicator/category 는 카탈로그 값과 다를 때만 저장하는 재정의 값으로 변경
+-- - 진행률 커버링 인덱스에서 category 제외 (집계는 카탈로그 기준으로 메모리에서 계산)
+-- - 카탈로그와 같은 값은 애플리케이션 기동 후에도 응답에서 카탈로그 값으로 채워지므로 NULL로 비워도 무방
+
+ALTER TABLE gri_disclosure MODIFY indicator VARCHAR(255) NULL;
+
+ALTER TABLE gri_disclosure
+    DROP INDEX idx_gri_disclosure_member_completed,
+    ADD INDEX idx_gri_disclosure_member_completed (member_id, completed, gri_code);
+
+-- 카탈로그 값과 동일한 지표명/카테고리 제거는 데이터 정리 스크립트 gri-catalog-override-cleanup.sql 로 실행
+-- (카탈로그 TSV 적재 선행 조건이 있으므로 분리, 이 스크립트 이후 실행)
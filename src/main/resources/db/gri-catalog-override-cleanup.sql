@@ -0,0 +1,30 @@
+-- 카탈로그 값과 동일한 gri_disclosure 지표명/카테고리를 NULL(재정의 없음)로 정리 (MySQL, 수동 실행)
+-- - gri-catalog-migration.sql 실행 후 실행, 여러 번 실행해도 결과가 같음
+-- - 선행 조건:
+--   1) 서버 local_infile=ON, 클라이언트는 mysql --local-infile=1 로 접속
+--   2) 아래 '/path/to/gri-catalog.tsv' 를 배포한 src/main/resources/gri/gri-catalog.tsv 의 실제 경로로 변경
+--   3) 임시 테이블을 사용하므로 한 세션에서 스크립트 전체를 실행 (mysql ... < gri-catalog-override-cleanup.sql)
+-- - TSV 앞 2줄은 주석(#) 이므로 건너뜀
+
+CREATE TEMPORARY TABLE gri_catalog (
+    code       VARCHAR(10)  NOT NULL,
+    category   VARCHAR(255) NOT NULL,
+    indicator  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (code)
+) DEFAULT CHARSET = utf8mb4;
+
+LOAD DATA LOCAL INFILE '/path/to/gri-catalog.tsv'
+    INTO TABLE gri_catalog
+    CHARACTER SET utf8mb4
+    FIELDS TERMINATED BY '\t'
+    LINES TERMINATED BY '\n'
+    IGNORE 2 LINES
+    (code, category, indicator);
+
+UPDATE gri_disclosure d
+    JOIN gri_catalog c ON c.code = d.gri_code
+SET d.indicator = IF(d.indicator = c.indicator, NULL, d.indicator),
+    d.category  = IF(d.category = c.category, NULL, d.category)
+WHERE d.indicator = c.indicator OR d.category = c.category;
+
+DROP TEMPORARY TABLE gri_catalog;
@@ -0,0 +1,36 @@
+-- completed 컬럼 도입 이전에 저장된 gri_disclosure 행의 완료 여부 보정 (MySQL, 수동 1회 실행)
+-- - 대상: 압축 저장 마이그레이션 전 행(content TEXT 에만 값이 있는 행), 이후 저장된 행은 애플리케이션이 completed 를 함께 기록
+-- - 완료 판정은 GriDisclosure.isFilled 와 같음: Java String.trim() 이 제거하는 U+0000~U+0020 외의 문자가 하나라도 있으면 완료
+--   (SQL TRIM 은 공백만 제거하므로 사용하지 않음, 이전 기동 시 보정으로 잘못 완료 처리된 공백 전용 행도 되돌림)
+-- - 보정된 사용자의 gri_progress_summary 행은 삭제하여 다음 조회/쓰기 때 항목 기준으로 다시 집계
+--   (gri-progress-summary.sql 적용 이전이면 마지막 DELETE 는 생략)
+-- - 진행률 캐시(gri.progress.cache.expire-after-write) 만료 전까지는 보정 전 값이 응답될 수 있음
+-- - 임시 테이블을 사용하므로 한 세션에서 스크립트 전체를 실행 (mysql ... < gri-completion-backfill.sql)
+-- - 값이 다른 행만 갱신하므로 여러 번 실행해도 결과가 같음
+
+CREATE TEMPORARY TABLE gri_completion_backfill (
+    id        BIGINT     NOT NULL,
+    member_id BIGINT     NOT NULL,
+    completed TINYINT(1) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO gri_completion_backfill (id, member_id, completed)
+SELECT id, member_id, filled
+FROM (
+    SELECT id, member_id, completed, content REGEXP '[^\\x{0}-\\x{20}]' AS filled
+    FROM gri_disclosure
+    WHERE content_blob IS NULL AND content IS NOT NULL
+) legacy
+WHERE legacy.completed <> legacy.filled;
+
+-- 스크립트 실행 중 애플리케이션이 다시 저장한 행(content_blob 존재)은 제외
+UPDATE gri_disclosure d
+    JOIN gri_completion_backfill b ON b.id = d.id AND b.member_id = d.member_id
+SET d.completed = b.completed
+WHERE d.content_blob IS NULL;
+
+DELETE FROM gri_progress_summary
+WHERE member_id IN (SELECT member_id FROM gri_completion_backfill);
+
+DROP TEMPORARY TABLE gri_completion_backfill;
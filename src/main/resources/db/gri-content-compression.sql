@@ -0,0 +1,10 @@
+-- GRI content 압축 저장 컬럼 추가 (MySQL, 수동 실행)
+-- - content_blob: GriContentCodec 형식 (첫 바이트 0 = UTF-8 원문, 1 = Deflate 압축)
+-- - content_size / content_hash: 원문 UTF-8 크기와 SHA-256 (목록/변경 감지용, blob 미조회)
+-- - 기존 content(TEXT) 값은 GriContentCompressionMigrationRunner 가 배치로 옮긴 뒤 NULL 로 비움
+--   모든 행의 content 가 NULL 이 된 것을 확인한 뒤 content 컬럼을 삭제할 수 있음
+
+ALTER TABLE gri_disclosure
+    ADD COLUMN content_blob LONGBLOB NULL AFTER category,
+    ADD COLUMN content_size INT NULL AFTER content_blob,
+    ADD COLUMN content_hash CHAR(64) NULL AFTER content_size;
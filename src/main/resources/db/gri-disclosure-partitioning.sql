@@ -0,0 +1,19 @@
+-- gri_disclosure 사용자(member_id) 해시 파티셔닝 (MySQL 8, 수동 실행)
+-- - 모든 사용자 조회/수정이 member_id 조건을 포함하므로 한 파티션만 접근 (EXPLAIN 의 partitions 컬럼으로 확인)
+-- - 관리자 전체 스캔은 GriPartitionScanService 가 파티션별로 나누어 병렬 실행
+-- - 파티셔닝 키는 모든 유니크 키에 포함되어야 하므로 PK 를 (id, member_id) 로 변경
+--   (id 는 AUTO_INCREMENT 로 계속 유일하며, JPA 엔티티의 @Id 는 그대로 id)
+-- - 파티션 테이블은 외래 키를 지원하지 않음 (gri_disclosure 를 참조하는 외래 키 없음)
+-- - ALTER 는 테이블 전체를 다시 쓰므로 점검 시간에 실행 (대용량이면 pt-online-schema-change 등 사용)
+-- - 파티션 수 변경: ALTER TABLE gri_disclosure COALESCE PARTITION n / ADD PARTITION PARTITIONS n
+
+ALTER TABLE gri_disclosure
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, member_id);
+
+ALTER TABLE gri_disclosure
+    PARTITION BY HASH (member_id) PARTITIONS 16;
+
+-- 확인: 파티션별 행 수
+-- SELECT partition_name, table_rows FROM information_schema.partitions
+-- WHERE table_schema = DATABASE() AND table_name = 'gri_disclosure' ORDER BY partition_ordinal_position;
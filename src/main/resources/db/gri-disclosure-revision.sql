@@ -0,0 +1,27 @@
+-- GRI 공시 항목 content 이력 테이블 (MySQL, 수동 실행)
+-- - 항목 삭제 후에도 감사용으로 유지하므로 gri_disclosure 외래 키 없음
+-- - payload 는 GriContentCodec 형식 (첫 바이트 0 = UTF-8 원문, 1 = Deflate 압축)
+
+CREATE TABLE IF NOT EXISTS gri_disclosure_revision (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    disclosure_id  BIGINT       NOT NULL,
+    member_id      BIGINT       NOT NULL,
+    version        BIGINT       NOT NULL,
+    type           VARCHAR(10)  NOT NULL,
+    prefix_length  INT          NOT NULL,
+    suffix_length  INT          NOT NULL,
+    payload        LONGBLOB     NULL,
+    content_size   INT          NULL,
+    content_hash   VARCHAR(64)  NULL,
+    created_at     DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_gri_revision_disclosure_version (disclosure_id, version),
+    KEY idx_gri_revision_member_disclosure (member_id, disclosure_id)
+);
+
+-- 기존 항목의 현재 content 를 첫 스냅샷으로 등록 (이후 수정은 이 스냅샷 기준 DELTA 로 기록)
+INSERT IGNORE INTO gri_disclosure_revision
+    (disclosure_id, member_id, version, type, prefix_length, suffix_length, payload, content_size, content_hash, created_at)
+SELECT d.id, d.member_id, d.version, 'SNAPSHOT', 0, 0,
+       COALESCE(d.content_blob, CONCAT(x'00', d.content)), d.content_size, d.content_hash, NOW()
+FROM gri_disclosure d;
@@ -0,0 +1,35 @@
+-- GRI 항목 등록 단일 INSERT 전환 및 멱등성 키 테이블 (MySQL, 수동 실행)
+
+-- 1. (member_id, gri_code) 유니크 키 이름을 엔티티와 맞춤 (중복 등록 감지 시 제약 이름으로 판별)
+--    기존 키는 Hibernate 가 자동 생성한 이름(UK...)이므로 information_schema 에서 찾아 변경
+SET @old_key := (
+    SELECT s.index_name
+    FROM information_schema.statistics s
+    WHERE s.table_schema = DATABASE()
+      AND s.table_name = 'gri_disclosure'
+      AND s.non_unique = 0
+      AND s.index_name <> 'PRIMARY'
+      AND s.seq_in_index = 1
+      AND s.column_name = 'member_id'
+    LIMIT 1
+);
+SET @rename_sql := IF(@old_key IS NULL OR @old_key = 'uk_gri_disclosure_member_gri_code',
+    'SELECT 1',
+    CONCAT('ALTER TABLE gri_disclosure RENAME INDEX `', @old_key, '` TO uk_gri_disclosure_member_gri_code'));
+PREPARE rename_stmt FROM @rename_sql;
+EXECUTE rename_stmt;
+DEALLOCATE PREPARE rename_stmt;
+
+-- 2. 등록 요청 멱등성 키 (만료 키는 애플리케이션이 주기적으로 삭제)
+CREATE TABLE IF NOT EXISTS gri_idempotency_key (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    member_id        BIGINT        NOT NULL,
+    idempotency_key  VARCHAR(100)  NOT NULL,
+    request_hash     VARCHAR(64)   NOT NULL,
+    response_body    TEXT          NULL,
+    created_at       DATETIME(6)   NOT NULL,
+    expires_at       DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_gri_idempotency_member_key (member_id, idempotency_key),
+    KEY idx_gri_idempotency_expires_at (expires_at)
+);
@@ -0,0 +1,23 @@
+-- GRI 공시 항목 변경 이벤트 아웃박스 테이블 (MySQL, 수동 실행)
+-- - 항목 삭제 이벤트도 남아야 하므로 gri_disclosure 외래 키 없음
+-- - feed_seq 가 변경 피드 시퀀스 (릴레이가 커밋된 이벤트에 순서대로 부여, NULL 이면 미부여)
+-- - published_at 이 NULL 인 행이 릴레이 미발행 이벤트
+
+CREATE TABLE IF NOT EXISTS gri_outbox_event (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type     VARCHAR(10)  NOT NULL,
+    disclosure_id  BIGINT       NOT NULL,
+    member_id      BIGINT       NOT NULL,
+    gri_code       VARCHAR(10)  NOT NULL,
+    version        BIGINT       NULL,
+    content_hash   VARCHAR(64)  NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    feed_seq       BIGINT       NULL,
+    published_at   DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_gri_outbox_feed_seq (feed_seq),
+    KEY idx_gri_outbox_member_feed_seq (member_id, feed_seq),
+    KEY idx_gri_outbox_published (published_at, feed_seq)
+);
+
+-- feed_seq 도입 이전에 만든 테이블은 gri-outbox-feed-seq.sql 로 변경
@@ -0,0 +1,17 @@
+-- gri_outbox_event 변경 피드 시퀀스(feed_seq) 도입 (MySQL, 수동 실행)
+-- - 대상: feed_seq 도입 이전 gri-outbox-event.sql 로 만든 테이블 (새로 만드는 경우 실행하지 않음)
+-- - 선행 조건: 모든 인스턴스의 릴레이를 끈 상태(gri.outbox.relay.enabled=false)에서 실행하고,
+--   새 버전 배포 후 릴레이를 다시 켬
+-- - 기존 이벤트는 id 를 그대로 피드 시퀀스로 사용하므로 소비자가 가진 since(id) 값이 그대로 이어짐
+
+ALTER TABLE gri_outbox_event
+    ADD COLUMN feed_seq BIGINT NULL AFTER created_at,
+    DROP INDEX idx_gri_outbox_member_id,
+    DROP INDEX idx_gri_outbox_published;
+
+UPDATE gri_outbox_event SET feed_seq = id WHERE feed_seq IS NULL;
+
+ALTER TABLE gri_outbox_event
+    ADD UNIQUE KEY uk_gri_outbox_feed_seq (feed_seq),
+    ADD KEY idx_gri_outbox_member_feed_seq (member_id, feed_seq),
+    ADD KEY idx_gri_outbox_published (published_at, feed_seq);
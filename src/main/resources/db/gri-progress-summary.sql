@@ -0,0 +1,13 @@
+-- 사용자별 GRI 진행률 요약 테이블 (MySQL, 수동 실행)
+-- - 기존 사용자의 요약 행은 GriProgressSummaryReconciler 가 첫 실행 시 생성
+--   (생성 전까지 진행률 조회는 gri_disclosure 집계로 처리)
+
+CREATE TABLE IF NOT EXISTS gri_progress_summary (
+    member_id       BIGINT        NOT NULL,
+    completed       INT           NOT NULL,
+    series_counts   VARCHAR(1000) NOT NULL,
+    category_counts VARCHAR(2000) NOT NULL,
+    updated_at      DATETIME(6)   NULL,
+    version         BIGINT        NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id)
+);
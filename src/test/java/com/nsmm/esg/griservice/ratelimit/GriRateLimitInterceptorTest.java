@@ -0,0 +1,73 @@
+package com.nsmm.esg.griservice.ratelimit;
+
+import com.nsmm.esg.griservice.controller.MemberIdHeader;
+import com.nsmm.esg.griservice.exception.GriRateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자별 요청 속도 제한 및 429 Retry-After 값 테스트
+ */
+class GriRateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsAfterBurstWithRetryAfterRoundedUpToSeconds() {
+        // 초당 0.5건: 다음 토큰까지 약 2초
+        GriRateLimitInterceptor interceptor = interceptor(true, 0.5, 2);
+
+        assertThat(interceptor.preHandle(request(7L), new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(request(7L), new MockHttpServletResponse(), null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request(7L), new MockHttpServletResponse(), null))
+                .isInstanceOfSatisfying(GriRateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfterSeconds()).isBetween(1L, 2L));
+        assertThat(meterRegistry.counter("gri.ratelimit.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        // 초당 2건: 대기 시간이 1초 미만(0.5초 이하)이어도 Retry-After 는 1초
+        GriRateLimitInterceptor interceptor = interceptor(true, 2, 1);
+
+        interceptor.preHandle(request(7L), new MockHttpServletResponse(), null);
+        assertThatThrownBy(() -> interceptor.preHandle(request(7L), new MockHttpServletResponse(), null))
+                .isInstanceOfSatisfying(GriRateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfterSeconds()).isEqualTo(1L));
+    }
+
+    @Test
+    void membersHaveSeparateBuckets() {
+        GriRateLimitInterceptor interceptor = interceptor(true, 0.5, 1);
+
+        assertThat(interceptor.preHandle(request(7L), new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(request(8L), new MockHttpServletResponse(), null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request(7L), new MockHttpServletResponse(), null))
+                .isInstanceOf(GriRateLimitExceededException.class);
+    }
+
+    @Test
+    void disabledLimiterAllowsEveryRequest() {
+        GriRateLimitInterceptor interceptor = interceptor(false, 0.5, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preHandle(request(7L), new MockHttpServletResponse(), null)).isTrue();
+        }
+        assertThat(meterRegistry.counter("gri.ratelimit.rejected").count()).isZero();
+    }
+
+    private GriRateLimitInterceptor interceptor(boolean enabled, double permitsPerSecond, int burst) {
+        return new GriRateLimitInterceptor(new GriRateLimiter(meterRegistry, enabled, permitsPerSecond, burst));
+    }
+
+    private static MockHttpServletRequest request(Long memberId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/gri");
+        request.addHeader(MemberIdHeader.NAME, String.valueOf(memberId));
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.nsmm.esg.griservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷(GCRA) 허용/대기 시간 계산 테스트 (시각은 nanoTime 대신 직접 지정)
+ */
+class GriTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long INTERVAL = SECOND / 10;
+
+    @Test
+    void allowsBurstThenReturnsWaitUntilNextToken() {
+        GriTokenBucket bucket = new GriTokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        GriTokenBucket bucket = new GriTokenBucket(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertThat(bucket.tryAcquire(INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryAcquire(INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(INTERVAL)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void rejectedRequestDoesNotConsumeToken() {
+        GriTokenBucket bucket = new GriTokenBucket(10, 1, 0);
+        assertThat(bucket.tryAcquire(0)).isZero();
+
+        long wait = bucket.tryAcquire(0);
+        assertThat(bucket.tryAcquire(0)).isEqualTo(wait);
+        assertThat(bucket.tryAcquire(wait)).isZero();
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToBurst() {
+        GriTokenBucket bucket = new GriTokenBucket(10, 5, 0);
+        long later = 60 * SECOND;
+
+        int allowed = 0;
+        while (bucket.tryAcquire(later) == 0) {
+            allowed++;
+        }
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws InterruptedException {
+        GriTokenBucket bucket = new GriTokenBucket(10, 50, 0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (bucket.tryAcquire(0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,316 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.datasource.GriReadYourWrites;
+import com.nsmm.esg.griservice.dto.GriDisclosureRequest;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.entity.GriChangeType;
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.exception.DuplicateGriDisclosureException;
+import com.nsmm.esg.griservice.exception.GriVersionConflictException;
+import com.nsmm.esg.griservice.exception.UnauthorizedGriAccessException;
+import com.nsmm.esg.griservice.repository.GriDisclosureJdbcRepository;
+import com.nsmm.esg.griservice.repository.GriDisclosureMetadata;
+import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * GRI 항목 등록/수정 흐름 테스트
+ * - 저장소와 후처리 서비스는 mock 으로 대체하고, 예외 변환과 후처리 호출 여부를 확인
+ */
+class GriDisclosureServiceTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final String GRI_CODE = "2-1";
+    private static final String IDEMPOTENCY_KEY = "create-2-1-0001";
+    private static final Long DISCLOSURE_ID = 1L;
+
+    private GriDisclosureRepository griDisclosureRepository;
+    private GriProgressCache griProgressCache;
+    private GriProgressSummaryService griProgressSummaryService;
+    private GriRevisionService griRevisionService;
+    private GriOutboxService griOutboxService;
+    private GriIdempotencyService griIdempotencyService;
+    private GriDisclosureService service;
+
+    @BeforeEach
+    void setUp() {
+        griDisclosureRepository = mock(GriDisclosureRepository.class);
+        griProgressCache = mock(GriProgressCache.class);
+        griProgressSummaryService = mock(GriProgressSummaryService.class);
+        griRevisionService = mock(GriRevisionService.class);
+        griOutboxService = mock(GriOutboxService.class);
+        griIdempotencyService = mock(GriIdempotencyService.class);
+        service = new GriDisclosureService(
+                griDisclosureRepository,
+                mock(GriDisclosureJdbcRepository.class),
+                griProgressCache,
+                griProgressSummaryService,
+                mock(GriSearchService.class),
+                griRevisionService,
+                griOutboxService,
+                griIdempotencyService,
+                mock(GriReadYourWrites.class),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void createStoresDisclosureAndRecordsChange() {
+        when(griDisclosureRepository.save(any(GriDisclosure.class))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        GriDisclosureResponse response = service.create(MEMBER_ID, request("본사 소재지: 서울"), null);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getGriCode()).isEqualTo(GRI_CODE);
+        verify(griProgressSummaryService).onChanged(MEMBER_ID, GRI_CODE, null, true);
+        verify(griOutboxService).record(eq(GriChangeType.CREATED), any(GriDisclosure.class));
+        verifyNoInteractions(griIdempotencyService);
+    }
+
+    @Test
+    void duplicateGriCodeConstraintIsConflict() {
+        SQLException duplicate = new SQLException("Unique index or primary key violation", "23505");
+        when(griDisclosureRepository.save(any(GriDisclosure.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", duplicate,
+                        "UK_GRI_DISCLOSURE_MEMBER_GRI_CODE_INDEX_1")));
+
+        assertThatThrownBy(() -> service.create(MEMBER_ID, request("본사 소재지: 서울"), null))
+                .isInstanceOf(DuplicateGriDisclosureException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.CONFLICT);
+        verifyNoInteractions(griProgressSummaryService, griRevisionService, griOutboxService, griProgressCache);
+    }
+
+    @Test
+    void mysqlDuplicateEntryWithoutConstraintNameIsConflict() {
+        SQLException duplicate = new SQLException("Duplicate entry '7-2-1'", "23000", 1062);
+        when(griDisclosureRepository.save(any(GriDisclosure.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", duplicate));
+
+        assertThatThrownBy(() -> service.create(MEMBER_ID, request("본사 소재지: 서울"), null))
+                .isInstanceOf(DuplicateGriDisclosureException.class);
+    }
+
+    @Test
+    void otherIntegrityViolationIsRethrown() {
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("Column 'member_id' cannot be null", "23000", 1048), null));
+        when(griDisclosureRepository.save(any(GriDisclosure.class))).thenThrow(notNull);
+
+        assertThatThrownBy(() -> service.create(MEMBER_ID, request("본사 소재지: 서울"), null))
+                .isSameAs(notNull);
+    }
+
+    @Test
+    void sameIdempotencyKeyReplaysStoredResponseWithoutInsert() {
+        GriDisclosureRequest request = request("본사 소재지: 서울");
+        GriDisclosureResponse stored = GriDisclosureResponse.builder()
+                .id(1L)
+                .griCode(GRI_CODE)
+                .content(request.getContent())
+                .memberId(MEMBER_ID)
+                .version(0L)
+                .build();
+        when(griIdempotencyService.claim(MEMBER_ID, IDEMPOTENCY_KEY, request.fingerprint())).thenReturn(Optional.of(stored));
+
+        GriDisclosureResponse response = service.create(MEMBER_ID, request, IDEMPOTENCY_KEY);
+
+        assertThat(response).isSameAs(stored);
+        verify(griDisclosureRepository, never()).save(any(GriDisclosure.class));
+        verify(griIdempotencyService, never()).complete(anyLong(), anyString(), any());
+        verifyNoInteractions(griProgressSummaryService, griOutboxService);
+    }
+
+    @Test
+    void firstRequestWithIdempotencyKeyStoresResponse() {
+        GriDisclosureRequest request = request("본사 소재지: 서울");
+        when(griIdempotencyService.claim(MEMBER_ID, IDEMPOTENCY_KEY, request.fingerprint())).thenReturn(Optional.empty());
+        when(griDisclosureRepository.save(any(GriDisclosure.class))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        GriDisclosureResponse response = service.create(MEMBER_ID, request, IDEMPOTENCY_KEY);
+
+        verify(griIdempotencyService).complete(MEMBER_ID, IDEMPOTENCY_KEY, response);
+    }
+
+    @Test
+    void staleVersionWithDifferentContentIsConflict() {
+        stubConditionalUpdate(0, 0);
+        when(griDisclosureRepository.findMetadataByIdAndMemberId(DISCLOSURE_ID, MEMBER_ID))
+                .thenReturn(Optional.of(metadata(4L, "다른 사용자가 저장한 내용", true)));
+
+        assertThatThrownBy(() -> service.update(DISCLOSURE_ID, MEMBER_ID, "내가 작성한 내용", 3L))
+                .isInstanceOf(GriVersionConflictException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.CONFLICT);
+        verify(griDisclosureRepository, never()).findByIdAndMemberId(anyLong(), anyLong());
+        verifyNoInteractions(griProgressSummaryService, griRevisionService, griOutboxService, griProgressCache);
+    }
+
+    @Test
+    void staleVersionWithSameContentReturnsLatestWithoutWrite() {
+        String content = "자동 저장 재시도";
+        stubConditionalUpdate(0, 0);
+        when(griDisclosureRepository.findMetadataByIdAndMemberId(DISCLOSURE_ID, MEMBER_ID))
+                .thenReturn(Optional.of(metadata(4L, content, true)));
+
+        GriDisclosureResponse response = service.update(DISCLOSURE_ID, MEMBER_ID, content, 3L);
+
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.getContent()).isEqualTo(content);
+        verifyNoInteractions(griProgressSummaryService, griRevisionService, griOutboxService, griProgressCache);
+    }
+
+    @Test
+    void missingOrOtherMembersDisclosureIsForbidden() {
+        stubConditionalUpdate(0, 0);
+        when(griDisclosureRepository.findMetadataByIdAndMemberId(DISCLOSURE_ID, MEMBER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.update(DISCLOSURE_ID, MEMBER_ID, "내용", 3L))
+                .isSameAs(UnauthorizedGriAccessException.UPDATE);
+    }
+
+    @Test
+    void matchingVersionUpdatesWithoutReadingContent() {
+        String content = "수정한 내용";
+        stubConditionalUpdate(1);
+        when(griDisclosureRepository.findMetadataByIdAndMemberId(DISCLOSURE_ID, MEMBER_ID))
+                .thenReturn(Optional.of(metadata(4L, content, true)));
+
+        GriDisclosureResponse response = service.update(DISCLOSURE_ID, MEMBER_ID, content, 3L);
+
+        assertThat(response.getVersion()).isEqualTo(4L);
+        verify(griDisclosureRepository, times(1)).updateContentIfVersionMatches(
+                anyLong(), anyLong(), anyLong(), anyBoolean(), anyString(), any(), anyString(), anyBoolean(), any());
+        verify(griDisclosureRepository, never()).findByIdAndMemberId(anyLong(), anyLong());
+        verify(griProgressSummaryService).onChanged(MEMBER_ID, GRI_CODE, true, true);
+        verify(griRevisionService).recordSnapshots(MEMBER_ID, List.of(DISCLOSURE_ID));
+        verify(griOutboxService).recordAll(GriChangeType.UPDATED, MEMBER_ID, List.of(DISCLOSURE_ID));
+    }
+
+    @Test
+    void completionChangeIsDetectedByRetryingWithOppositeFlag() {
+        String content = "처음 입력한 내용";
+        stubConditionalUpdate(0, 1);
+        when(griDisclosureRepository.findMetadataByIdAndMemberId(DISCLOSURE_ID, MEMBER_ID))
+                .thenReturn(Optional.of(metadata(1L, content, true)));
+
+        service.update(DISCLOSURE_ID, MEMBER_ID, content, 0L);
+
+        verify(griDisclosureRepository).updateContentIfVersionMatches(
+                eq(DISCLOSURE_ID), eq(MEMBER_ID), eq(0L), eq(false), eq(content), any(), anyString(), eq(true), any());
+        verify(griProgressSummaryService).onChanged(MEMBER_ID, GRI_CODE, false, true);
+    }
+
+    /**
+     * 버전 조건부 UPDATE 의 호출 순서별 반영 행 수 지정
+     */
+    private void stubConditionalUpdate(Integer first, Integer... next) {
+        when(griDisclosureRepository.updateContentIfVersionMatches(
+                anyLong(), anyLong(), anyLong(), anyBoolean(), anyString(), any(), anyString(), anyBoolean(), any()))
+                .thenReturn(first, next);
+    }
+
+    /**
+     * 수정 후(또는 다른 요청이 먼저 수정한) 항목의 메타데이터
+     */
+    private static GriDisclosureMetadata metadata(Long version, String content, boolean completed) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        return new GriDisclosureMetadata() {
+            @Override
+            public Long getId() {
+                return DISCLOSURE_ID;
+            }
+
+            @Override
+            public String getGriCode() {
+                return GRI_CODE;
+            }
+
+            @Override
+            public String getIndicator() {
+                return null;
+            }
+
+            @Override
+            public String getCategory() {
+                return null;
+            }
+
+            @Override
+            public Boolean getCompleted() {
+                return completed;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public String getContentHash() {
+                return GriContentCodec.hashOf(content);
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return updatedAt.minusDays(1);
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private static GriDisclosureRequest request(String content) {
+        return GriDisclosureRequest.builder()
+                .griCode(GRI_CODE)
+                .content(content)
+                .build();
+    }
+
+    /**
+     * 저장 직후 엔티티 (ID 채번, 생성 시각/버전 및 completed 동기화 반영)
+     */
+    private static GriDisclosure saved(GriDisclosure entity) {
+        LocalDateTime now = LocalDateTime.now();
+        return GriDisclosure.builder()
+                .id(1L)
+                .memberId(entity.getMemberId())
+                .griCode(entity.getGriCode())
+                .indicator(entity.getIndicator())
+                .category(entity.getCategory())
+                .content(entity.getContent())
+                .completed(GriDisclosure.isFilled(entity.getContent()))
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+    }
+}
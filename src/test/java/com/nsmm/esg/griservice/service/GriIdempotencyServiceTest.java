@@ -0,0 +1,187 @@
+package com.nsmm.esg.griservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.griservice.dto.GriDisclosureResponse;
+import com.nsmm.esg.griservice.entity.GriIdempotencyKey;
+import com.nsmm.esg.griservice.exception.IdempotencyKeyReusedException;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멱등성 키 선점(claim)/응답 저장(complete) 테스트
+ * - 키 저장소는 (memberId, key) 유니크 제약을 흉내 낸 메모리 맵으로 대체
+ * - 응답 JSON 은 Spring Boot 와 같은 구성의 ObjectMapper 로 저장/복원
+ */
+class GriIdempotencyServiceTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final String KEY = "autosave-2-1-0001";
+    private static final String REQUEST_HASH = "a".repeat(64);
+    private static final String OTHER_REQUEST_HASH = "b".repeat(64);
+
+    private final Map<String, GriIdempotencyKey> store = new HashMap<>();
+    private GriIdempotencyKeyRepository repository;
+    private GriIdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GriIdempotencyKeyRepository.class);
+        when(repository.insertIfAbsent(anyLong(), anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    GriIdempotencyKey key = GriIdempotencyKey.builder()
+                            .memberId(invocation.getArgument(0))
+                            .idempotencyKey(invocation.getArgument(1))
+                            .requestHash(invocation.getArgument(2))
+                            .createdAt(invocation.getArgument(3))
+                            .expiresAt(invocation.getArgument(4))
+                            .build();
+                    return store.putIfAbsent(storeKey(key.getMemberId(), key.getIdempotencyKey()), key) == null ? 1 : 0;
+                });
+        when(repository.findForUpdate(anyLong(), anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(store.get(storeKey(invocation.getArgument(0), invocation.getArgument(1)))));
+        when(repository.updateResponse(anyLong(), anyString(), anyString())).thenAnswer(invocation -> {
+            GriIdempotencyKey existing = store.get(storeKey(invocation.getArgument(0), invocation.getArgument(1)));
+            if (existing == null) {
+                return 0;
+            }
+            store.put(storeKey(existing.getMemberId(), existing.getIdempotencyKey()),
+                    withResponse(existing, invocation.getArgument(2)));
+            return 1;
+        });
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new GriIdempotencyService(repository, objectMapper, mock(TransactionTemplate.class), Duration.ofHours(24));
+    }
+
+    @Test
+    void firstClaimReservesKey() {
+        assertThat(service.claim(MEMBER_ID, KEY, REQUEST_HASH)).isEmpty();
+
+        GriIdempotencyKey stored = store.get(storeKey(MEMBER_ID, KEY));
+        assertThat(stored.getRequestHash()).isEqualTo(REQUEST_HASH);
+        assertThat(stored.getResponseBody()).isNull();
+        assertThat(stored.getExpiresAt()).isAfter(stored.getCreatedAt());
+    }
+
+    @Test
+    void sameKeyReplayReturnsStoredResponse() {
+        GriDisclosureResponse first = response();
+        assertThat(service.claim(MEMBER_ID, KEY, REQUEST_HASH)).isEmpty();
+        service.complete(MEMBER_ID, KEY, first);
+
+        Optional<GriDisclosureResponse> replay = service.claim(MEMBER_ID, KEY, REQUEST_HASH);
+
+        assertThat(replay).isPresent();
+        assertThat(replay.get()).usingRecursiveComparison().isEqualTo(first);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        service.claim(MEMBER_ID, KEY, REQUEST_HASH);
+        service.complete(MEMBER_ID, KEY, response());
+
+        assertThatThrownBy(() -> service.claim(MEMBER_ID, KEY, OTHER_REQUEST_HASH))
+                .isInstanceOf(IdempotencyKeyReusedException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(store.get(storeKey(MEMBER_ID, KEY)).getRequestHash()).isEqualTo(REQUEST_HASH);
+    }
+
+    @Test
+    void expiredKeyIsReclaimedForNewRequest() {
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        GriIdempotencyKey expired = GriIdempotencyKey.builder()
+                .memberId(MEMBER_ID)
+                .idempotencyKey(KEY)
+                .requestHash(REQUEST_HASH)
+                .responseBody("{\"id\":1}")
+                .createdAt(past)
+                .expiresAt(past.plusHours(24))
+                .build();
+        store.put(storeKey(MEMBER_ID, KEY), expired);
+
+        assertThat(service.claim(MEMBER_ID, KEY, OTHER_REQUEST_HASH)).isEmpty();
+
+        GriIdempotencyKey reclaimed = store.get(storeKey(MEMBER_ID, KEY));
+        assertThat(reclaimed.getRequestHash()).isEqualTo(OTHER_REQUEST_HASH);
+        assertThat(reclaimed.getResponseBody()).isNull();
+        assertThat(reclaimed.isExpired(LocalDateTime.now())).isFalse();
+    }
+
+    @Test
+    void keyWithoutStoredResponseIsReclaimed() {
+        service.claim(MEMBER_ID, KEY, REQUEST_HASH);
+
+        assertThat(service.claim(MEMBER_ID, KEY, OTHER_REQUEST_HASH)).isEmpty();
+        assertThat(store.get(storeKey(MEMBER_ID, KEY)).getRequestHash()).isEqualTo(OTHER_REQUEST_HASH);
+    }
+
+    @Test
+    void keysAreScopedByMember() {
+        service.claim(MEMBER_ID, KEY, REQUEST_HASH);
+        service.complete(MEMBER_ID, KEY, response());
+
+        assertThat(service.claim(8L, KEY, OTHER_REQUEST_HASH)).isEmpty();
+    }
+
+    @Test
+    void blankOrTooLongKeyIsRejected() {
+        assertThatThrownBy(() -> service.claim(MEMBER_ID, " ", REQUEST_HASH))
+                .isInstanceOf(InvalidGriRequestException.class);
+        assertThatThrownBy(() -> service.claim(MEMBER_ID, "k".repeat(101), REQUEST_HASH))
+                .isInstanceOf(InvalidGriRequestException.class);
+        verify(repository, never()).insertIfAbsent(anyLong(), anyString(), anyString(), any(), any());
+    }
+
+    private static GriDisclosureResponse response() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 6, 1, 9, 30, 15);
+        return GriDisclosureResponse.builder()
+                .id(1L)
+                .griCode("2-1")
+                .indicator("조직 세부 정보")
+                .category("일반 공개")
+                .content("본사 소재지: 서울")
+                .contentSize(24)
+                .memberId(MEMBER_ID)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(0L)
+                .build();
+    }
+
+    private static GriIdempotencyKey withResponse(GriIdempotencyKey key, String responseBody) {
+        return GriIdempotencyKey.builder()
+                .id(key.getId())
+                .memberId(key.getMemberId())
+                .idempotencyKey(key.getIdempotencyKey())
+                .requestHash(key.getRequestHash())
+                .responseBody(responseBody)
+                .createdAt(key.getCreatedAt())
+                .expiresAt(key.getExpiresAt())
+                .build();
+    }
+
+    private static String storeKey(Long memberId, String key) {
+        return memberId + ":" + key;
+    }
+}
@@ -0,0 +1,173 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+import com.nsmm.esg.griservice.dto.GriChangeFeedResponse;
+import com.nsmm.esg.griservice.entity.GriChangeType;
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import com.nsmm.esg.griservice.event.InMemoryGriEventBroker;
+import com.nsmm.esg.griservice.repository.GriNamedLockRepository;
+import com.nsmm.esg.griservice.repository.GriOutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 릴레이 테스트 (내장 H2 DB, 프로세스 내 브로커)
+ * - H2 는 GET_LOCK 을 지원하지 않으므로 이름 잠금은 항상 얻는 것으로 대체
+ */
+@DataJpaTest
+@Import(GriOutboxService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GriOutboxRelayTest {
+
+    private static final GriNamedLockRepository ALWAYS_LOCKED = new GriNamedLockRepository(null) {
+        @Override
+        public boolean runExclusively(String name, Runnable task) {
+            task.run();
+            return true;
+        }
+    };
+
+    @Autowired
+    private GriOutboxEventRepository griOutboxEventRepository;
+
+    @Autowired
+    private GriOutboxService griOutboxService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryGriEventBroker broker = new InMemoryGriEventBroker();
+    private final List<GriChangeEvent> received = new CopyOnWriteArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private GriOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 배치 크기를 작게 하여 여러 배치에 걸친 시퀀스 부여/발행 확인
+        relay = new GriOutboxRelay(griOutboxEventRepository, broker, transactionTemplate, ALWAYS_LOCKED, 2, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        griOutboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void publishesInSequenceOrder() {
+        for (long disclosureId = 1; disclosureId <= 5; disclosureId++) {
+            insert(disclosureId);
+        }
+        broker.subscribe(received::add);
+
+        relay.relay();
+
+        assertThat(received).extracting(GriChangeEvent::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(received).extracting(GriChangeEvent::getDisclosureId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(griOutboxEventRepository.findUnpublished(PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void resumesFromFailedEventAfterPublisherFailure() {
+        for (long disclosureId = 1; disclosureId <= 5; disclosureId++) {
+            insert(disclosureId);
+        }
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        broker.subscribe(event -> {
+            if (event.getSequence() == 3L && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("브로커 연결 실패");
+            }
+            received.add(event);
+        });
+
+        relay.relay();
+
+        assertThat(received).extracting(GriChangeEvent::getSequence).containsExactly(1L, 2L);
+        assertThat(griOutboxEventRepository.findUnpublished(PageRequest.of(0, 10)))
+                .extracting(GriOutboxEvent::getFeedSeq).containsExactly(3L, 4L, 5L);
+
+        relay.relay();
+
+        assertThat(received).extracting(GriChangeEvent::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(griOutboxEventRepository.findUnpublished(PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void lateCommittedEventIsNotSkippedByFeed() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 먼저 채번(작은 id)되었지만 늦게 커밋되는 쓰기
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                griOutboxEventRepository.saveAndFlush(event(100L));
+                inserted.countDown();
+                await(commit);
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            insert(200L);
+
+            relay.relay();
+            GriChangeFeedResponse first = griOutboxService.getChanges(null, 0, 10);
+            assertThat(first.getEvents()).extracting(GriChangeEvent::getDisclosureId).containsExactly(200L);
+
+            commit.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            relay.relay();
+
+            // 이전 조회의 nextSince 이후로 늦게 커밋된 이벤트가 이어서 나옴
+            GriChangeFeedResponse next = griOutboxService.getChanges(null, first.getNextSince(), 10);
+            assertThat(next.getEvents()).extracting(GriChangeEvent::getDisclosureId).containsExactly(100L);
+            assertThat(next.getEvents()).extracting(GriChangeEvent::getSequence).containsExactly(first.getNextSince() + 1);
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private void insert(Long disclosureId) {
+        griOutboxEventRepository.save(event(disclosureId));
+    }
+
+    private static GriOutboxEvent event(Long disclosureId) {
+        return GriOutboxEvent.builder()
+                .eventType(GriChangeType.UPDATED)
+                .disclosureId(disclosureId)
+                .memberId(1L)
+                .griCode("2-1")
+                .version(1L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
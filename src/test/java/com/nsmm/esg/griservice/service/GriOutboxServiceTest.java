@@ -0,0 +1,167 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.dto.GriChangeEvent;
+import com.nsmm.esg.griservice.dto.GriChangeFeedResponse;
+import com.nsmm.esg.griservice.entity.GriChangeType;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.entity.GriOutboxEvent;
+import com.nsmm.esg.griservice.exception.InvalidGriRequestException;
+import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
+import com.nsmm.esg.griservice.repository.GriOutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스 기록(쓰기 트랜잭션과 함께 커밋/롤백) 및 변경 피드 페이지 테스트 (내장 H2 DB)
+ */
+@DataJpaTest
+@Import(GriOutboxService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GriOutboxServiceTest {
+
+    @Autowired
+    private GriOutboxService griOutboxService;
+
+    @Autowired
+    private GriDisclosureRepository griDisclosureRepository;
+
+    @Autowired
+    private GriOutboxEventRepository griOutboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        griOutboxEventRepository.deleteAllInBatch();
+        griDisclosureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void committedWriteRecordsExactlyOneEvent() {
+        GriDisclosure saved = transactionTemplate.execute(status -> write(1L, "2-1"));
+
+        assertThat(griOutboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(GriChangeType.CREATED);
+            assertThat(event.getDisclosureId()).isEqualTo(saved.getId());
+            assertThat(event.getMemberId()).isEqualTo(1L);
+            assertThat(event.getContentHash()).isEqualTo(saved.getContentHash());
+            assertThat(event.getFeedSeq()).isNull();
+            assertThat(event.getPublishedAt()).isNull();
+        });
+    }
+
+    @Test
+    void rolledBackWriteRecordsNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            write(1L, "2-1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(griDisclosureRepository.count()).isZero();
+        assertThat(griOutboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void recordOutsideTransactionIsRejected() {
+        GriDisclosure saved = transactionTemplate.execute(status -> griDisclosureRepository.saveAndFlush(disclosure(1L, "2-1")));
+
+        assertThatThrownBy(() -> griOutboxService.record(GriChangeType.UPDATED, saved))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(griOutboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void changesArePagedByFeedSequence() {
+        for (long feedSeq = 1; feedSeq <= 5; feedSeq++) {
+            insert(feedSeq % 2 == 0 ? 2L : 1L, feedSeq);
+        }
+        insert(1L, null); // 릴레이가 아직 시퀀스를 부여하지 않은 이벤트는 피드에 나오지 않음
+
+        GriChangeFeedResponse first = griOutboxService.getChanges(null, 0, 2);
+        assertThat(first.getEvents()).extracting(GriChangeEvent::getSequence).containsExactly(1L, 2L);
+        assertThat(first.getNextSince()).isEqualTo(2L);
+        assertThat(first.isHasMore()).isTrue();
+
+        GriChangeFeedResponse second = griOutboxService.getChanges(null, first.getNextSince(), 2);
+        assertThat(second.getEvents()).extracting(GriChangeEvent::getSequence).containsExactly(3L, 4L);
+        assertThat(second.isHasMore()).isTrue();
+
+        GriChangeFeedResponse last = griOutboxService.getChanges(null, second.getNextSince(), 2);
+        assertThat(last.getEvents()).extracting(GriChangeEvent::getSequence).containsExactly(5L);
+        assertThat(last.getNextSince()).isEqualTo(5L);
+        assertThat(last.isHasMore()).isFalse();
+
+        GriChangeFeedResponse empty = griOutboxService.getChanges(null, last.getNextSince(), 2);
+        assertThat(empty.getEvents()).isEmpty();
+        assertThat(empty.getNextSince()).isEqualTo(5L);
+        assertThat(empty.isHasMore()).isFalse();
+    }
+
+    @Test
+    void changesFilteredByMember() {
+        for (long feedSeq = 1; feedSeq <= 5; feedSeq++) {
+            insert(feedSeq % 2 == 0 ? 2L : 1L, feedSeq);
+        }
+
+        GriChangeFeedResponse member = griOutboxService.getChanges(1L, 1, 10);
+
+        assertThat(member.getEvents()).extracting(GriChangeEvent::getSequence).containsExactly(3L, 5L);
+        assertThat(member.getEvents()).extracting(GriChangeEvent::getMemberId).containsOnly(1L);
+        assertThat(member.getNextSince()).isEqualTo(5L);
+    }
+
+    @Test
+    void invalidSinceOrLimitIsRejected() {
+        assertThatThrownBy(() -> griOutboxService.getChanges(null, -1, 10)).isInstanceOf(InvalidGriRequestException.class);
+        assertThatThrownBy(() -> griOutboxService.getChanges(null, 0, 0)).isInstanceOf(InvalidGriRequestException.class);
+        assertThatThrownBy(() -> griOutboxService.getChanges(null, 0, 1001)).isInstanceOf(InvalidGriRequestException.class);
+    }
+
+    private GriDisclosure write(Long memberId, String griCode) {
+        GriDisclosure saved = griDisclosureRepository.saveAndFlush(disclosure(memberId, griCode));
+        griOutboxService.record(GriChangeType.CREATED, saved);
+        return saved;
+    }
+
+    private void insert(Long memberId, Long feedSeq) {
+        griOutboxEventRepository.save(GriOutboxEvent.builder()
+                .eventType(GriChangeType.UPDATED)
+                .disclosureId(100L + (feedSeq != null ? feedSeq : 0))
+                .memberId(memberId)
+                .griCode("2-1")
+                .version(1L)
+                .createdAt(LocalDateTime.now())
+                .feedSeq(feedSeq)
+                .build());
+    }
+
+    private static GriDisclosure disclosure(Long memberId, String griCode) {
+        return GriDisclosure.builder()
+                .memberId(memberId)
+                .griCode(griCode)
+                .content("조직 세부 정보")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 진행률 캐시 증분 반영/무효화 테스트
+ * - 트랜잭션 동기화를 직접 열고 닫아 커밋/롤백 이후 동작을 확인
+ */
+class GriProgressCacheTest {
+
+    private static final Long MEMBER_ID = 7L;
+
+    private final GriCatalog catalog = GriCatalog.getInstance();
+    private final GriProgressCache cache = new GriProgressCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    private final List<String> completedCodes = new ArrayList<>(List.of("2-1"));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, GriProgressTally> loader = memberId -> {
+        loads.incrementAndGet();
+        return GriProgressTally.from(catalog, completedCodes);
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cachedTallyIsReusedUntilInvalidated() {
+        GriProgressTally first = cache.get(MEMBER_ID, loader);
+
+        assertThat(cache.get(MEMBER_ID, loader)).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void changeAfterLoadIsAppliedIncrementally() {
+        GriProgressTally loaded = cache.get(MEMBER_ID, loader);
+
+        cache.onChanged(MEMBER_ID, loaded.loadedAt() + 1, "305-1", null, true);
+
+        assertThat(cache.get(MEMBER_ID, loader).completed()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void changeStartedBeforeLoadInvalidates() {
+        GriProgressTally loaded = cache.get(MEMBER_ID, loader);
+        completedCodes.add("305-1");
+
+        // 집계가 쓰기 이후에 끝났다면 이미 변경이 포함되었을 수 있으므로 증분 반영 대신 재집계
+        cache.onChanged(MEMBER_ID, loaded.loadedAt(), "305-1", null, true);
+
+        assertThat(cache.get(MEMBER_ID, loader).completed()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictForcesReload() {
+        cache.get(MEMBER_ID, loader);
+        completedCodes.add("2-2");
+
+        cache.evict(MEMBER_ID);
+
+        assertThat(cache.get(MEMBER_ID, loader).completed()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void loadStartedBeforeCommitIsNotCached() {
+        long loadStartedAt = System.nanoTime();
+        GriProgressTally stale = GriProgressTally.from(catalog, completedCodes);
+        cache.evict(MEMBER_ID);
+
+        assertThat(cache.putLoaded(MEMBER_ID, stale, loadStartedAt)).isSameAs(stale);
+
+        assertThat(cache.get(MEMBER_ID, loader)).isNotSameAs(stale);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationWaitsForCommit() {
+        GriProgressTally loaded = cache.get(MEMBER_ID, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(MEMBER_ID);
+        assertThat(cache.get(MEMBER_ID, loader)).isSameAs(loaded);
+
+        commit();
+        cache.get(MEMBER_ID, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rolledBackChangeIsNotApplied() {
+        GriProgressTally loaded = cache.get(MEMBER_ID, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.onChanged(MEMBER_ID, loaded.loadedAt() + 1, "305-1", null, true);
+        cache.evict(MEMBER_ID);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(cache.get(MEMBER_ID, loader)).isSameAs(loaded);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
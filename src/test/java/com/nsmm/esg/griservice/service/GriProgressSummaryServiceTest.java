@@ -0,0 +1,145 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.catalog.GriCatalog;
+import com.nsmm.esg.griservice.entity.GriProgressSummary;
+import com.nsmm.esg.griservice.repository.GriDisclosureRepository;
+import com.nsmm.esg.griservice.repository.GriProgressSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * gri_progress_summary 증분 반영 테스트
+ * - 완료 여부 변경분(+1/-1)을 반영한 결과가 항목 기준 재집계 결과와 같은지 확인
+ */
+class GriProgressSummaryServiceTest {
+
+    private static final Long MEMBER_ID = 7L;
+
+    private final GriCatalog catalog = GriCatalog.getInstance();
+    private GriProgressSummaryRepository summaryRepository;
+    private GriDisclosureRepository disclosureRepository;
+    private GriProgressSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(GriProgressSummaryRepository.class);
+        disclosureRepository = mock(GriDisclosureRepository.class);
+        service = new GriProgressSummaryService(summaryRepository, disclosureRepository);
+    }
+
+    @Test
+    void completingDisclosureIncrementsSeriesAndCategory() {
+        GriProgressSummary summary = summaryOf("2-1", "305-1");
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.of(summary));
+
+        service.onChanged(MEMBER_ID, "2-2", false, true);
+
+        assertSummary(summary, "2-1", "2-2", "305-1");
+    }
+
+    @Test
+    void clearingOrDeletingCompletedDisclosureDecrements() {
+        GriProgressSummary summary = summaryOf("2-1", "2-2", "401-1");
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.of(summary));
+
+        service.onChanged(MEMBER_ID, "2-2", true, false);
+        assertSummary(summary, "2-1", "401-1");
+
+        service.onChanged(MEMBER_ID, "401-1", true, null);
+        assertSummary(summary, "2-1");
+    }
+
+    @Test
+    void unchangedCompletionDoesNotTouchSummary() {
+        service.onChanged(MEMBER_ID, "2-1", true, true);
+        service.onChanged(MEMBER_ID, "2-1", false, false);
+        service.onChanged(MEMBER_ID, "2-1", null, false);
+        service.onChanged(MEMBER_ID, "2-1", false, null);
+
+        verifyNoInteractions(summaryRepository, disclosureRepository);
+    }
+
+    @Test
+    void codeOutsideCatalogKeepsCounts() {
+        GriProgressSummary summary = summaryOf("2-1");
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.of(summary));
+
+        service.onChanged(MEMBER_ID, "999-9", null, true);
+
+        assertSummary(summary, "2-1");
+    }
+
+    @Test
+    void missingSummaryIsCreatedFromCurrentDisclosures() {
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.empty());
+        // 항목 변경이 먼저 반영(flush)되므로 집계 결과에 이번 변경이 포함됨
+        when(disclosureRepository.findCompletedGriCodesByMemberId(MEMBER_ID)).thenReturn(List.of("2-1", "305-1"));
+        GriProgressTally expected = GriProgressTally.from(catalog, List.of("2-1", "305-1"));
+        when(summaryRepository.insertIfAbsent(MEMBER_ID, 2, expected.encodeSeriesCounts(), expected.encodeCategoryCounts()))
+                .thenReturn(1);
+
+        service.onChanged(MEMBER_ID, "305-1", null, true);
+
+        verify(summaryRepository).insertIfAbsent(MEMBER_ID, 2, expected.encodeSeriesCounts(), expected.encodeCategoryCounts());
+    }
+
+    @Test
+    void summaryCreatedConcurrentlyStillReceivesDelta() {
+        // 다른 트랜잭션이 이번 변경 이전 상태로 먼저 생성한 요약
+        GriProgressSummary concurrent = summaryOf("2-1");
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.empty(), Optional.of(concurrent));
+        when(disclosureRepository.findCompletedGriCodesByMemberId(MEMBER_ID)).thenReturn(List.of("2-1", "2-2"));
+        when(summaryRepository.insertIfAbsent(anyLong(), anyInt(), anyString(), anyString())).thenReturn(0);
+
+        service.onChanged(MEMBER_ID, "2-2", null, true);
+
+        assertSummary(concurrent, "2-1", "2-2");
+    }
+
+    @Test
+    void repeatedDeltasMatchFullAggregation() {
+        GriProgressSummary summary = summaryOf();
+        when(summaryRepository.findForUpdate(MEMBER_ID)).thenReturn(Optional.of(summary));
+
+        service.onChanged(MEMBER_ID, "2-1", null, true);
+        service.onChanged(MEMBER_ID, "305-1", false, true);
+        service.onChanged(MEMBER_ID, "401-1", null, true);
+        service.onChanged(MEMBER_ID, "2-1", true, false);
+        service.onChanged(MEMBER_ID, "2-2", null, true);
+
+        assertSummary(summary, "305-1", "401-1", "2-2");
+        verify(summaryRepository, never()).insertIfAbsent(anyLong(), anyInt(), anyString(), anyString());
+    }
+
+    private GriProgressSummary summaryOf(String... completedCodes) {
+        GriProgressTally tally = GriProgressTally.from(catalog, List.of(completedCodes));
+        return GriProgressSummary.builder()
+                .memberId(MEMBER_ID)
+                .completed(tally.completed())
+                .seriesCounts(tally.encodeSeriesCounts())
+                .categoryCounts(tally.encodeCategoryCounts())
+                .version(0L)
+                .build();
+    }
+
+    private void assertSummary(GriProgressSummary summary, String... completedCodes) {
+        GriProgressTally expected = GriProgressTally.from(catalog, List.of(completedCodes));
+        assertThat(summary.getCompleted()).isEqualTo(completedCodes.length);
+        assertThat(summary.matches(expected.completed(), expected.encodeSeriesCounts(), expected.encodeCategoryCounts()))
+                .as("요약 %s / %s", summary.getSeriesCounts(), summary.getCategoryCounts())
+                .isTrue();
+    }
+}
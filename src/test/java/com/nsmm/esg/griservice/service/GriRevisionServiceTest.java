@@ -0,0 +1,223 @@
+package com.nsmm.esg.griservice.service;
+
+import com.nsmm.esg.griservice.entity.GriContentCodec;
+import com.nsmm.esg.griservice.entity.GriDisclosure;
+import com.nsmm.esg.griservice.entity.GriDisclosureRevision;
+import com.nsmm.esg.griservice.entity.GriRevisionType;
+import com.nsmm.esg.griservice.exception.GriNotFoundException;
+import com.nsmm.esg.griservice.repository.GriDisclosureRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * content 이력 DELTA/SNAPSHOT 기록 및 특정 버전 재구성 테스트
+ * - 이력 저장소는 메모리 맵으로 대체하되, payload 는 실제 저장 형식(GriContentCodec)으로 인코딩/디코딩하여 보관
+ */
+class GriRevisionServiceTest {
+
+    private static final Long DISCLOSURE_ID = 1L;
+    private static final Long MEMBER_ID = 7L;
+
+    // 편집에 사용할 문자 (한글, 서로게이트 쌍 이모지, 이모지 수식자, 줄바꿈 포함)
+    private static final String[] TOKENS = {
+            "a", "b", " ", "\n", "가", "나", "공시", "😀", "😁", "👍", "🏻", "🏽", "🌀", "🜀"
+    };
+
+    private final TreeMap<Long, GriDisclosureRevision> store = new TreeMap<>();
+    private GriDisclosureRevisionRepository repository;
+    private GriRevisionService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GriDisclosureRevisionRepository.class);
+        when(repository.save(any(GriDisclosureRevision.class))).thenAnswer(invocation -> {
+            GriDisclosureRevision revision = invocation.getArgument(0);
+            store.put(revision.getVersion(), stored(revision));
+            return revision;
+        });
+        when(repository.findSnapshotVersionAtOrBefore(eq(DISCLOSURE_ID), eq(MEMBER_ID), anyLong())).thenAnswer(invocation -> {
+            long version = invocation.getArgument(2);
+            return store.headMap(version, true).descendingMap().values().stream()
+                    .filter(revision -> revision.getType() == GriRevisionType.SNAPSHOT)
+                    .map(GriDisclosureRevision::getVersion)
+                    .findFirst();
+        });
+        when(repository.findByDisclosureIdAndVersionBetweenOrderByVersion(eq(DISCLOSURE_ID), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    long from = invocation.getArgument(1);
+                    long to = invocation.getArgument(2);
+                    return new ArrayList<>(store.subMap(from, true, to, true).values());
+                });
+        service = new GriRevisionService(repository);
+    }
+
+    @Test
+    void randomEditSequencesRoundTrip() {
+        Random random = new Random(20240601L);
+        for (int round = 0; round < 20; round++) {
+            store.clear();
+            List<String> history = new ArrayList<>();
+            String content = randomText(random, random.nextInt(30));
+            history.add(content);
+            service.recordCreated(disclosure(content));
+            for (long version = 1; version <= 45; version++) {
+                String next = randomEdit(random, content);
+                service.recordUpdated(DISCLOSURE_ID, MEMBER_ID, version, content, next);
+                history.add(next);
+                content = next;
+            }
+            for (int version = 0; version < history.size(); version++) {
+                assertThat(service.getRevision(DISCLOSURE_ID, MEMBER_ID, (long) version).getContent())
+                        .as("round=%d, version=%d", round, version)
+                        .isEqualTo(history.get(version));
+            }
+        }
+    }
+
+    @Test
+    void deltaDoesNotSplitSurrogatePairsAtBoundaries() {
+        assertDelta("가😀나", "가😁나", "😁");
+        assertDelta("👍🏻", "👍🏽", "🏽");
+        assertDelta("😀a", "😃a", "😃");
+        assertDelta("x🌀", "x🜀", "🜀");
+        assertDelta("a😀", "b😀", "b");
+        assertDelta("보고서 작성", "보고서 초안 작성", "초안 ");
+        assertDelta("온실가스 배출량", "온실가스 감축량", "감축");
+        assertDelta("😀", "", "");
+        assertDelta("", "😀공시", "😀공시");
+    }
+
+    @Test
+    void snapshotEveryInterval() {
+        long interval = GriRevisionService.SNAPSHOT_INTERVAL;
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, 1, "가", "나").getType()).isEqualTo(GriRevisionType.DELTA);
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, interval - 1, "가", "나").getType()).isEqualTo(GriRevisionType.DELTA);
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, interval, "가", "나").getType()).isEqualTo(GriRevisionType.SNAPSHOT);
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, interval + 1, "가", "나").getType()).isEqualTo(GriRevisionType.DELTA);
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, interval * 2, "가", "나").getType()).isEqualTo(GriRevisionType.SNAPSHOT);
+        // 이전/현재 content 가 없으면 DELTA 를 만들 수 없으므로 SNAPSHOT
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, 3, null, "나").getType()).isEqualTo(GriRevisionType.SNAPSHOT);
+        assertThat(GriRevisionService.revision(DISCLOSURE_ID, MEMBER_ID, 3, "가", null).getType()).isEqualTo(GriRevisionType.SNAPSHOT);
+    }
+
+    @Test
+    void reconstructionStartsFromNearestSnapshot() {
+        String content = "초기 내용";
+        service.recordCreated(disclosure(content));
+        for (long version = 1; version <= 45; version++) {
+            String next = content + version;
+            service.recordUpdated(DISCLOSURE_ID, MEMBER_ID, version, content, next);
+            content = next;
+        }
+
+        assertThat(service.getRevision(DISCLOSURE_ID, MEMBER_ID, 45L).getContent()).isEqualTo(content);
+        verify(repository).findByDisclosureIdAndVersionBetweenOrderByVersion(DISCLOSURE_ID, 40L, 45L);
+    }
+
+    @Test
+    void missingVersionIsNotFound() {
+        String content = "가";
+        service.recordCreated(disclosure(content));
+        for (long version = 1; version <= 10; version++) {
+            String next = content + "나";
+            service.recordUpdated(DISCLOSURE_ID, MEMBER_ID, version, content, next);
+            content = next;
+        }
+        store.remove(7L);
+
+        assertThat(service.getRevision(DISCLOSURE_ID, MEMBER_ID, 6L).getContent()).isEqualTo("가" + "나".repeat(6));
+        assertThatThrownBy(() -> service.getRevision(DISCLOSURE_ID, MEMBER_ID, 7L)).isInstanceOf(GriNotFoundException.class);
+        assertThatThrownBy(() -> service.getRevision(DISCLOSURE_ID, MEMBER_ID, 8L)).isInstanceOf(GriNotFoundException.class);
+        assertThatThrownBy(() -> service.getRevision(DISCLOSURE_ID, MEMBER_ID, 11L)).isInstanceOf(GriNotFoundException.class);
+
+        store.clear();
+        assertThatThrownBy(() -> service.getRevision(DISCLOSURE_ID, MEMBER_ID, 0L)).isInstanceOf(GriNotFoundException.class);
+    }
+
+    @Test
+    void hashMismatchIsRejected() {
+        service.recordCreated(disclosure("가나다"));
+        GriDisclosureRevision delta = GriRevisionService.delta(DISCLOSURE_ID, MEMBER_ID, 1, "가나다", "가다");
+        store.put(1L, GriDisclosureRevision.builder()
+                .disclosureId(DISCLOSURE_ID)
+                .memberId(MEMBER_ID)
+                .version(1L)
+                .type(GriRevisionType.DELTA)
+                .prefixLength(delta.getPrefixLength())
+                .suffixLength(delta.getSuffixLength())
+                .payload("라")
+                .contentSize(delta.getContentSize())
+                .contentHash(delta.getContentHash())
+                .build());
+
+        assertThatThrownBy(() -> service.getRevision(DISCLOSURE_ID, MEMBER_ID, 1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertDelta(String previous, String content, String expectedPayload) {
+        GriDisclosureRevision revision = GriRevisionService.delta(DISCLOSURE_ID, MEMBER_ID, 1, previous, content);
+        assertThat(revision.getPayload()).isEqualTo(expectedPayload);
+        assertThat(stored(revision).applyTo(previous)).isEqualTo(content);
+        assertThat(revision.getContentHash()).isEqualTo(GriContentCodec.hashOf(content));
+    }
+
+    /**
+     * 저장/조회를 거친 이력 (payload 를 실제 저장 형식으로 인코딩 후 디코딩, 짝이 없는 서로게이트는 여기서 깨짐)
+     */
+    private static GriDisclosureRevision stored(GriDisclosureRevision revision) {
+        return GriDisclosureRevision.builder()
+                .disclosureId(revision.getDisclosureId())
+                .memberId(revision.getMemberId())
+                .version(revision.getVersion())
+                .type(revision.getType())
+                .prefixLength(revision.getPrefixLength())
+                .suffixLength(revision.getSuffixLength())
+                .payload(GriContentCodec.decode(GriContentCodec.encode(revision.getPayload())))
+                .contentSize(revision.getContentSize())
+                .contentHash(revision.getContentHash())
+                .build();
+    }
+
+    private static GriDisclosure disclosure(String content) {
+        return GriDisclosure.builder()
+                .id(DISCLOSURE_ID)
+                .memberId(MEMBER_ID)
+                .griCode("2-1")
+                .content(content)
+                .version(0L)
+                .build();
+    }
+
+    private static String randomText(Random random, int tokens) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            text.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 코드 포인트 경계에서 임의 구간을 삭제/삽입/교체
+     */
+    private static String randomEdit(Random random, String content) {
+        int[] codePoints = content.codePoints().toArray();
+        int start = random.nextInt(codePoints.length + 1);
+        int end = start + random.nextInt(Math.min(5, codePoints.length - start) + 1);
+        String replacement = random.nextInt(4) == 0 ? "" : randomText(random, 1 + random.nextInt(4));
+        String next = new String(codePoints, 0, start) + replacement + new String(codePoints, end, codePoints.length - end);
+        return next.equals(content) ? next + TOKENS[random.nextInt(TOKENS.length)] : next;
+    }
+}
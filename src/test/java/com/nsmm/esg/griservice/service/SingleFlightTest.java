@@ -0,0 +1,167 @@
+package com.nsmm.esg.griservice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키 동시 조회 병합(SingleFlight) 테스트
+ * - 합류한 요청은 진행 중인 조회의 future 를 기다리므로(WAITING) 스레드 상태로 합류 시점을 확인
+ */
+class SingleFlightTest {
+
+    private static final Long KEY = 7L;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Caller> callers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        for (Caller caller : callers) {
+            caller.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Test
+    void concurrentCallersShareOneLoaderCall() throws InterruptedException {
+        Caller leader = start(blockingLoader(() -> "loaded"));
+        awaitLoading();
+        List<Caller> joiners = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            joiners.add(startJoined(countingLoader("other")));
+        }
+
+        release.countDown();
+
+        assertThat(leader.await()).isEqualTo("loaded");
+        for (Caller joiner : joiners) {
+            assertThat(joiner.await()).isEqualTo("loaded");
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderExceptionPropagatesToJoiners() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("조회 실패");
+        Caller leader = start(blockingLoader(() -> {
+            throw failure;
+        }));
+        awaitLoading();
+        Caller joiner = startJoined(countingLoader("other"));
+
+        release.countDown();
+
+        leader.join(TimeUnit.SECONDS.toMillis(5));
+        joiner.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(leader.error).isSameAs(failure);
+        assertThat(joiner.error).isSameAs(failure);
+        assertThat(loaderCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void forgetDetachesLaterCallersFromInFlightLoad() throws InterruptedException {
+        Caller leader = start(blockingLoader(() -> "before-write"));
+        awaitLoading();
+        Caller joiner = startJoined(countingLoader("other"));
+
+        singleFlight.forget(KEY);
+        String fresh = singleFlight.execute(KEY, countingLoader("after-write"));
+
+        assertThat(fresh).isEqualTo("after-write");
+        release.countDown();
+        assertThat(leader.await()).isEqualTo("before-write");
+        assertThat(joiner.await()).isEqualTo("before-write");
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void completedLoadIsNotCached() {
+        assertThat(singleFlight.execute(KEY, countingLoader("first"))).isEqualTo("first");
+        assertThat(singleFlight.execute(KEY, countingLoader("second"))).isEqualTo("second");
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    private Supplier<String> blockingLoader(Supplier<String> result) {
+        return () -> {
+            loaderCalls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private Supplier<String> countingLoader(String value) {
+        return () -> {
+            loaderCalls.incrementAndGet();
+            return value;
+        };
+    }
+
+    private void awaitLoading() throws InterruptedException {
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Caller start(Supplier<String> loader) {
+        Caller caller = new Caller(loader);
+        callers.add(caller);
+        caller.start();
+        return caller;
+    }
+
+    /**
+     * 진행 중인 조회에 합류하여 결과를 기다리는 상태가 될 때까지 대기
+     */
+    private Caller startJoined(Supplier<String> loader) throws InterruptedException {
+        Caller caller = start(loader);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (caller.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        return caller;
+    }
+
+    private class Caller extends Thread {
+
+        private final Supplier<String> loader;
+        private volatile String result;
+        private volatile Throwable error;
+
+        Caller(Supplier<String> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = singleFlight.execute(KEY, loader);
+            } catch (Throwable e) {
+                error = e;
+            }
+        }
+
+        String await() throws InterruptedException {
+            join(TimeUnit.SECONDS.toMillis(5));
+            assertThat(isAlive()).isFalse();
+            assertThat(error).isNull();
+            return result;
+        }
+    }
+}